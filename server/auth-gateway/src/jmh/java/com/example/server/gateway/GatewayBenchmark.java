@@ -0,0 +1,201 @@
+package com.example.server.gateway;
+
+import com.example.server.job.Proxy.JobProxy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway overhead of one GET /api/job/{jobId}, against a loopback stub of the job service that
+ * answers with a fixed JSON body. Both sides use the same {@link HttpClientPools} connections
+ * and the same {@link DownstreamGuards}, so the difference is the proxying itself.
+ *
+ * engine goes through {@link GatewayHandler#handleRequest} and {@link ProxyClient}: the servlet
+ * request goes async and the body is streamed to the response from the OkHttp thread. feign is
+ * what JobController did before the route existed: {@link JobProxy#getJobById} decodes the body
+ * into a ResponseEntity&lt;String&gt;, which is copied and written with the String converter,
+ * as Spring MVC would. Handler mapping and the security filter chain are the same for both and
+ * are left out.
+ *
+ * Run with -prof gc to compare allocations per request; the String decode grows with
+ * bodyBytes, the engine's pooled copy does not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// Without TCP_NODELAY the stub's separate header and body writes stall on delayed ACKs (~40 ms)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class GatewayBenchmark {
+
+    private static final String JOB_ID = "64f1c2a9e4b0a1b2c3d4e5f6";
+
+    @Param({"1024", "65536"})
+    private int bodyBytes;
+
+    private HttpServer                 stubServer;
+    private ExecutorService            stubExecutor;
+    private HttpClientPools            httpClientPools;
+    private GatewayHandler             gatewayHandler;
+    private RouteTable.RouteMatch      routeMatch;
+    private JobProxy                   jobProxy;
+    private StringHttpMessageConverter stringConverter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] body = jsonBody(bodyBytes);
+
+        stubExecutor = Executors.newFixedThreadPool(4);
+        stubServer   = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.setExecutor(stubExecutor);
+        stubServer.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.start();
+        String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+        Route      jobById    = Route.route("job.by-id").get("/api/job/{jobId}").to("job", "/api/jobs/{jobId}").build();
+        RouteTable routeTable = RouteTable.builder().downstream("job", baseUrl).route(jobById).build();
+        routeMatch = new RouteTable.RouteMatch(jobById, Map.of("jobId", JOB_ID));
+
+        SimpleMeterRegistry meterRegistry    = new SimpleMeterRegistry();
+        DownstreamGuards    downstreamGuards = new DownstreamGuards(new MockEnvironment(), meterRegistry);
+        httpClientPools = new HttpClientPools(routeTable, new MockEnvironment(), meterRegistry);
+
+        gatewayHandler = new GatewayHandler(new ProxyClient(httpClientPools, routeTable),
+                new StreamingResponseWriter(new BufferPool(8192, 16)), new ObjectMapper(),
+                new MetricsRouteFilter(meterRegistry), downstreamGuards, 1048576, 35000);
+
+        stringConverter = new StringHttpMessageConverter(StandardCharsets.UTF_8);
+        HttpMessageConverters converters = new HttpMessageConverters(false, List.of(stringConverter));
+        jobProxy = Feign.builder()
+                .client(new PooledFeignClient(httpClientPools))
+                .addCapability(new GuardedFeignCapability(downstreamGuards))
+                .contract(new SpringMvcContract())
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> converters)))
+                .target(new Target.HardCodedTarget<>(JobProxy.class, "jobClient", baseUrl + "/api/jobs"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClientPools.pools().values().forEach(pool -> {
+            pool.client().dispatcher().executorService().shutdown();
+            pool.client().connectionPool().evictAll();
+        });
+        stubServer.stop(0);
+        stubExecutor.shutdown();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse engine() throws Exception {
+        CountDownLatch completed = new CountDownLatch(1);
+        MockHttpServletRequest  request  = new AsyncRequest(completed);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setAttribute(GatewayHandlerMapping.ROUTE_MATCH_ATTRIBUTE, routeMatch);
+
+        gatewayHandler.handleRequest(request, response);
+        if (!completed.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Gateway response did not complete");
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse feign() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ResponseEntity<String> upstream = jobProxy.getJobById(JOB_ID);
+        ResponseEntity<String> entity   = ResponseEntity.status(upstream.getStatusCode()).body(upstream.getBody());
+
+        ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+        output.setStatusCode(entity.getStatusCode());
+        stringConverter.write(entity.getBody(), MediaType.APPLICATION_JSON, output);
+        output.flush();
+        return response;
+    }
+
+    private static byte[] jsonBody(int size) {
+        String prefix = "{\"_id\":\"" + JOB_ID + "\",\"description\":\"";
+        String suffix = "\"}";
+        char[] filler = new char[Math.max(0, size - prefix.length() - suffix.length())];
+        Arrays.fill(filler, 'x');
+        return (prefix + new String(filler) + suffix).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Signals when the handler completes the async request, which it does from the OkHttp thread.
+     */
+    private static final class AsyncRequest extends MockHttpServletRequest {
+
+        private final CountDownLatch completed;
+
+        private AsyncRequest(CountDownLatch completed) {
+            super("GET", "/api/job/" + JOB_ID);
+            this.completed = completed;
+            setAsyncSupported(true);
+        }
+
+        @Override
+        public AsyncContext startAsync(ServletRequest request, ServletResponse response) {
+            MockAsyncContext asyncContext = new MockAsyncContext(request, response) {
+                @Override
+                public void complete() {
+                    super.complete();
+                    completed.countDown();
+                }
+            };
+            setAsyncStarted(true);
+            setAsyncContext(asyncContext);
+            return asyncContext;
+        }
+    }
+}
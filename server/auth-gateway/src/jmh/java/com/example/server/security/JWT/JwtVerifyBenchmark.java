@@ -0,0 +1,88 @@
+package com.example.server.security.JWT;
+
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.Role;
+import com.example.server.security.repository.SigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of verifying the token of one authenticated request.
+ *
+ * twoParses is what JwtAuthenticationFilter did before {@link JwtService#verify(String)}:
+ * validateToken and then getEmailFromToken, each building its own parser and checking the
+ * signature again. verify is the single parse with the shared parser.
+ *
+ * Run for both signing algorithms: RS256 verification is what downstream services pay when
+ * they check tokens against /.well-known/jwks.json themselves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+    @Param({"HS512", "RS256"})
+    private String algorithm;
+
+    private Key        verificationKey;
+    private JwtService jwtService;
+    private String     token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", "benchmarkSecretThatIsComfortablyLongerThanSixtyFourBytesForHmacSha512");
+        ReflectionTestUtils.setField(jwtConfig, "jwtExpiration", Duration.ofHours(1).toMillis());
+        ReflectionTestUtils.setField(jwtConfig, "signingAlgorithm", algorithm);
+
+        JwtKeyManager keyManager = new JwtKeyManager(mock(SigningKeyRepository.class), mock(MongoTemplate.class),
+                jwtConfig, Duration.ofDays(1), Duration.ofSeconds(10));
+        keyManager.rotate();
+
+        jwtService      = new JwtService(jwtConfig.secretKey(), jwtConfig, keyManager);
+        token           = jwtService.generateToken(principal());
+        verificationKey = keyManager.isEnabled() ? keyManager.activeKey().publicKey() : jwtConfig.secretKey();
+    }
+
+    @Benchmark
+    public String twoParses() {
+        Jwts.parserBuilder().setSigningKey(verificationKey).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(verificationKey).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public JwtPrincipal verify() {
+        return jwtService.verify(token);
+    }
+
+    private static AuthPrincipal principal() {
+        AuthPrincipal principal = new AuthPrincipal(new ObjectId(), "candidate@evalia.dev",
+                List.of(new Role(new ObjectId(), "ROLE_USER")), true, true, false);
+        principal.setName("Candidate");
+        return principal;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.Config.CustomAuthenticationProvider;
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.DTO.LoginDto;
+import com.example.server.security.DTO.LoginResponseDTO;
+import com.example.server.security.JWT.JwtKeyManager;
+import com.example.server.security.JWT.JwtService;
+import com.example.server.security.JWT.TokenRevocationService;
+import com.example.server.security.JWT.VerifiedTokenCache;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.Role;
+import com.example.server.security.models.userEntity;
+import com.example.server.security.repository.SigningKeyRepository;
+import com.example.server.security.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Logins per second on one thread, with users served from an in-memory repository mock. The
+ * password check dominates; the bcrypt strength is a parameter so the score can be read against
+ * the configured password.bcrypt.strength.
+ *
+ * login is {@link AuthService#login}: one projected lookup, then the hash. twoLookups replays
+ * the flow it replaced: findByEmail for the verification check, authenticationManager.authenticate
+ * through {@link CustomAuthenticationProvider} and loadUserByUsername (a second findByEmail),
+ * then the SecurityContextHolder write.
+ *
+ * lookupMicros makes every repository call wait that long before returning, standing in for a
+ * MongoDB round trip; with 0 the two flows differ only by in-memory work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class LoginBenchmark {
+
+    private static final String EMAIL    = "candidate@evalia.dev";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10"})
+    private int strength;
+
+    @Param({"0", "500"})
+    private long lookupMicros;
+
+    // Held so the level set below is not lost when the logger is collected
+    private Logger                 authLogger;
+    private PasswordHashingService passwordHashingService;
+    private AuthService            authService;
+    private AuthenticationManager  authenticationManager;
+    private UserRepository         userRepository;
+    private JwtService             jwtService;
+    private LoginDto               loginDto;
+
+    @Setup
+    public void setUp() {
+        authLogger = Logger.getLogger(AuthService.class.getName());
+        authLogger.setLevel(Level.WARNING);
+
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(strength);
+        passwordHashingService = new PasswordHashingService(passwordEncoder, new SimpleMeterRegistry(),
+                1, 64, Duration.ofSeconds(10));
+
+        AuthPrincipal user = new AuthPrincipal(new ObjectId(), EMAIL,
+                List.of(new Role(new ObjectId(), "ROLE_USER")), true, true, false);
+        user.setName("Candidate");
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+
+        userEntity entity = new userEntity();
+        entity.setId(user.getId());
+        entity.setName(user.getName());
+        entity.setEmail(EMAIL);
+        entity.setPassword(user.getPassword());
+        entity.setRoles(user.getRoles());
+        entity.setEmailVerified(true);
+        entity.setHasResume(true);
+        entity.setEnabled(true);
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findPrincipalByEmail(EMAIL)).thenAnswer(invocation -> lookup(user));
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> lookup(entity));
+
+        UserDetailsPasswordService userDetailsPasswordService = mock(UserDetailsPasswordService.class);
+        jwtService = jwtService();
+
+        authService = new AuthService(userRepository, mock(RoleRegistry.class), passwordHashingService,
+                userDetailsPasswordService, jwtService, mock(OtpStore.class), mock(EmailService.class),
+                mock(VerifiedTokenCache.class), mock(TokenRevocationService.class));
+
+        // What loadUserByUsername did before the user cache: a plain findByEmail
+        authenticationManager = new ProviderManager(new CustomAuthenticationProvider(
+                email -> userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException("Email not found")),
+                userDetailsPasswordService, passwordHashingService));
+
+        loginDto = new LoginDto();
+        loginDto.setEmail(EMAIL);
+        loginDto.setPassword(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> login() {
+        return authService.login(loginDto);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> twoLookups() {
+        userEntity user = userRepository.findByEmail(loginDto.getEmail()).orElseThrow();
+        if (!user.isEmailVerified()) {
+            return new ResponseEntity<>("Please verify your email before logging in", HttpStatus.UNAUTHORIZED);
+        }
+
+        Authentication authentication = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken(loginDto.getEmail(), loginDto.getPassword()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        try {
+            String token = jwtService.generateToken(user);
+            return new ResponseEntity<>(new LoginResponseDTO(user.getName(), user.getEmail(), user.getRoles(), token), HttpStatus.OK);
+        } finally {
+            // The security filter chain clears the context at the end of every request
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Spins rather than sleeps: a sleep or park this short overshoots by tens of microseconds.
+     */
+    private <T> Optional<T> lookup(T document) {
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(lookupMicros);
+        while (System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        return Optional.of(document);
+    }
+
+    private static JwtService jwtService() {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", "benchmarkSecretThatIsComfortablyLongerThanSixtyFourBytesForHmacSha512");
+        ReflectionTestUtils.setField(jwtConfig, "jwtExpiration", Duration.ofHours(1).toMillis());
+        ReflectionTestUtils.setField(jwtConfig, "signingAlgorithm", "HS512");
+
+        JwtKeyManager keyManager = new JwtKeyManager(mock(SigningKeyRepository.class), mock(MongoTemplate.class),
+                jwtConfig, Duration.ofDays(1), Duration.ofSeconds(10));
+        return new JwtService(jwtConfig.secretKey(), jwtConfig, keyManager);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.server.security.models;
+
+import com.mongodb.MongoClientSettings;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of loading one user for authentication: the full users document as findByEmail reads
+ * it, against the same document restricted to {@link AuthPrincipal#PROJECTION} as
+ * findPrincipalByEmail reads it.
+ *
+ * The document is written by the same {@link MappingMongoConverter} setup the repositories
+ * use, with jobs entries in both appliedJobs and savedJobs. Setup prints the BSON size of
+ * both documents, which is what crosses the wire per lookup. Each benchmark decodes those
+ * bytes the way the driver does and maps the result, so -prof gc reports the heap allocated
+ * per load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDocumentBenchmark {
+
+    @Param({"50", "5000"})
+    private int jobs;
+
+    private MappingMongoConverter converter;
+    private DocumentCodec         codec;
+    private RawBsonDocument       fullDocument;
+    private RawBsonDocument       projectedDocument;
+
+    @Setup
+    public void setUp() {
+        // As Spring Boot wires it, so java.time values are stored as dates, not mapped as entities
+        MongoCustomConversions conversions    = new MongoCustomConversions(List.of());
+        MongoMappingContext    mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        codec = new DocumentCodec(MongoClientSettings.getDefaultCodecRegistry());
+
+        Document written = new Document();
+        converter.write(user(jobs), written);
+
+        // The server always returns _id unless the projection excludes it
+        Set<String> projected = Document.parse(AuthPrincipal.PROJECTION).keySet();
+        Document    narrowed  = new Document();
+        written.forEach((name, value) -> {
+            if (name.equals("_id") || projected.contains(name)) {
+                narrowed.put(name, value);
+            }
+        });
+
+        fullDocument      = new RawBsonDocument(written, codec);
+        projectedDocument = new RawBsonDocument(narrowed, codec);
+
+        System.out.printf("%nBSON bytes with %d jobs: full document %d, projection %d%n", jobs,
+                fullDocument.getByteBuffer().remaining(), projectedDocument.getByteBuffer().remaining());
+    }
+
+    @Benchmark
+    public userEntity fullDocument() {
+        return converter.read(userEntity.class, fullDocument.decode(codec));
+    }
+
+    @Benchmark
+    public AuthPrincipal projection() {
+        return converter.read(AuthPrincipal.class, projectedDocument.decode(codec));
+    }
+
+    private static userEntity user(int jobs) {
+        userEntity user = new userEntity();
+        user.setId(new ObjectId());
+        user.setName("Candidate");
+        user.setEmail("candidate@evalia.dev");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4xU9ZZ0sM8bT5a2I1Tj4b1C");
+        user.setRoles(List.of(new Role(new ObjectId(), "ROLE_USER")));
+        user.setBio("Backend developer looking for platform and infrastructure roles.");
+        user.setLocation("Remote");
+        user.setAboutMe("Eight years of Java and distributed systems, most recently on payment services.");
+        user.setProfilePictureUrl("https://res.cloudinary.com/evalia/image/upload/profile.png");
+        user.setEmailVerified(true);
+        user.setHasResume(true);
+        user.setResumeUrl("https://res.cloudinary.com/evalia/raw/upload/resume.pdf");
+        user.setEnabled(true);
+
+        List<String> applied = new ArrayList<>(jobs);
+        List<String> saved   = new ArrayList<>(jobs);
+        for (int i = 0; i < jobs; i++) {
+            applied.add(new ObjectId().toHexString());
+            saved.add(new ObjectId().toHexString());
+        }
+        user.setAppliedJobs(applied);
+        user.setSavedJobs(saved);
+        user.setNumberOfAppliedJobs(jobs);
+        return user;
+    }
+}
@@ -2,14 +2,22 @@ package com.example.server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoReactiveRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoReactiveAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// The reactive driver is only used by ReactiveGatewayApplication
+@SpringBootApplication(exclude = {
+		MongoReactiveAutoConfiguration.class,
+		MongoReactiveDataAutoConfiguration.class,
+		MongoReactiveRepositoriesAutoConfiguration.class
+})
+@EnableScheduling
 @EnableFeignClients(basePackages = {
 		"com.example.server.resume",
-		"com.example.server.job.Proxy",
-		"com.example.server.notification.Proxy",
-		"com.example.server.course.proxy"
+		"com.example.server.job.Proxy"
 })
 public class ServerApplication {
 
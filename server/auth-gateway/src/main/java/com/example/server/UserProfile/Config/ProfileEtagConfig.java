@@ -0,0 +1,23 @@
+package com.example.server.UserProfile.Config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Candidate profiles are assembled by a controller rather than proxied, so conditional GET
+ * comes from Spring's ShallowEtagHeaderFilter: the response is buffered, hashed into a strong
+ * ETag and replaced by a bodiless 304 when If-None-Match matches. It is registered after the
+ * security filters, so only authenticated requests reach it.
+ */
+@Configuration
+public class ProfileEtagConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> profileEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/user/profile");
+        return registration;
+    }
+}
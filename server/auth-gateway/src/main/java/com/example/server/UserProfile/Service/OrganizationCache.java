@@ -0,0 +1,76 @@
+package com.example.server.UserProfile.Service;
+
+import com.example.server.UserProfile.models.OrganizationEntity;
+import com.example.server.UserProfile.repository.OrganizationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local read-through cache of organization documents keyed by id.
+ *
+ * Only the read path ({@link OrganizationService#getOrganizationById(String)}) goes through it;
+ * updates load the document straight from the repository. Writes on this node are evicted by
+ * {@link OrganizationCacheEvictionListener}, writes on other nodes by the change stream listener.
+ */
+@Component
+public class OrganizationCache {
+
+    private final OrganizationRepository             organizationRepository;
+    private final Cache<String, OrganizationEntity>  organizationsById;
+    private final AtomicLong                         generation = new AtomicLong();
+
+    public OrganizationCache(OrganizationRepository organizationRepository,
+                             MeterRegistry          meterRegistry,
+                             @Value("${organization.cache.max-size:5000}") long     maxSize,
+                             @Value("${organization.cache.ttl:PT10M}")     Duration ttl) {
+
+        this.organizationRepository = organizationRepository;
+        this.organizationsById      = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, organizationsById, "organizations.by-id");
+    }
+
+    /**
+     * Loads outside the cache's compute so the Mongo read never runs while holding a map
+     * lock, which would pin a virtual thread. Concurrent misses may each read once. A load
+     * that overlapped an eviction removes what it stored, so it cannot put back a pre-write
+     * copy.
+     */
+    public Optional<OrganizationEntity> findById(String id) {
+        OrganizationEntity cached = organizationsById.getIfPresent(id);
+        if (cached == null) {
+            long loadGeneration = generation.get();
+            cached = organizationRepository.findById(new ObjectId(id)).orElse(null);
+            if (cached != null) {
+                organizationsById.put(id, cached);
+                if (generation.get() != loadGeneration) {
+                    organizationsById.invalidate(id);
+                }
+            }
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    public void evict(String id) {
+        generation.incrementAndGet();
+        organizationsById.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        organizationsById.invalidateAll();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.server.UserProfile.Service;
+
+import com.example.server.UserProfile.models.OrganizationEntity;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts {@link OrganizationCache} entries for organizations saved or deleted through Spring Data
+ * on this node (profile updates, picture uploads, deletion).
+ */
+@Component
+public class OrganizationCacheEvictionListener extends AbstractMongoEventListener<OrganizationEntity> {
+
+    private final OrganizationCache organizationCache;
+
+    public OrganizationCacheEvictionListener(OrganizationCache organizationCache) {
+        this.organizationCache = organizationCache;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<OrganizationEntity> event) {
+        if (event.getSource().getId() != null) {
+            organizationCache.evict(event.getSource().getId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<OrganizationEntity> event) {
+        Document filter = event.getSource();
+        Object id = filter.get("_id");
+        if (id != null) {
+            organizationCache.evict(id.toString());
+        } else {
+            organizationCache.invalidateAll();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.server.UserProfile.DTO.OrganizationUpdateDTO;
 import com.example.server.UserProfile.exception.OrganizationNotFoundException;
 import com.example.server.UserProfile.models.OrganizationEntity;
 import com.example.server.UserProfile.repository.OrganizationRepository;
+import com.example.server.job.Service.JobCatalogCache;
 import com.example.server.security.models.userEntity;
 import com.example.server.security.repository.UserRepository;
 import org.bson.types.ObjectId;
@@ -23,15 +24,21 @@ public class OrganizationService {
     private static final Logger          logger = Logger.getLogger(OrganizationService.class.getName());
     private final CloudinaryService      cloudinaryService;
     private final OrganizationRepository organizationRepository;
+    private final OrganizationCache      organizationCache;
     private final UserRepository         userRepository;
+    private final JobCatalogCache        jobCatalogCache;
 
     public OrganizationService( CloudinaryService      cloudinaryService,
                                 OrganizationRepository organizationRepository,
-                                UserRepository         userRepository) {
+                                OrganizationCache      organizationCache,
+                                UserRepository         userRepository,
+                                JobCatalogCache        jobCatalogCache) {
 
         this.cloudinaryService      = cloudinaryService;
         this.organizationRepository = organizationRepository;
+        this.organizationCache      = organizationCache;
         this.userRepository         = userRepository;
+        this.jobCatalogCache        = jobCatalogCache;
     }
 
     public OrganizationEntity createOrganizationProfile(OrganizationEntity organization, String email) {
@@ -49,8 +56,11 @@ public class OrganizationService {
         return newOrganization;
     }
 
+    /**
+     * Served from {@link OrganizationCache}; the returned entity is shared and must be treated as read-only.
+     */
     public OrganizationEntity getOrganizationById(String id) {
-        return organizationRepository.findById(new ObjectId(id))
+        return organizationCache.findById(id)
                 .orElseThrow(() -> new OrganizationNotFoundException("Organization not found with ID: " + id));
     }
 
@@ -114,6 +124,8 @@ public class OrganizationService {
 
         try {
             organizationRepository.delete(organization);
+            // Its jobs are not tracked here, so the whole catalog goes
+            jobCatalogCache.invalidateAll("organization-deleted");
             userEntity user = userRepository.findByEmail(email).orElse(null);
             if (user != null) {
                 List<String> orgIds = user.getOrganizationId();
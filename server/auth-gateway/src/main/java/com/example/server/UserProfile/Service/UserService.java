@@ -6,6 +6,7 @@ import com.example.server.exception.CustomExceptions.UserNotFoundException;
 import com.example.server.resume.DTO.ResumeDataRequest;
 import com.example.server.resume.Proxy.ResumeJsonProxy;
 import com.example.server.security.models.Role;
+import com.example.server.security.Service.UserCache;
 import com.example.server.security.models.userEntity;
 import com.example.server.security.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,20 +27,23 @@ public class UserService {
 
     private static final Logger logger = Logger.getLogger(UserService.class.getName());
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final ResumeJsonProxy resumeJsonProxy;
     private final CloudinaryService cloudinaryService;
 
     public UserService(UserRepository userRepository,
+            UserCache userCache,
             ResumeJsonProxy resumeJsonProxy,
             CloudinaryService cloudinaryService) {
 
         this.userRepository = userRepository;
+        this.userCache = userCache;
         this.resumeJsonProxy = resumeJsonProxy;
         this.cloudinaryService = cloudinaryService;
     }
 
     public userEntity loadUserById(String id) {
-        return userRepository.findById(new ObjectId(id))
+        return userCache.findById(new ObjectId(id))
                 .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     }
 
@@ -99,7 +103,7 @@ public class UserService {
     }
 
     public Profile obtainCandidateProfileFromResume(String email) throws IOException {
-        userEntity user = userRepository.findByEmail(email)
+        userEntity user = userCache.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
 
         if (!user.isHasResume()) {
@@ -159,7 +163,7 @@ public class UserService {
 
     public UserDTO getUserByEmail(String email) {
 
-        userEntity user = userRepository.findByEmail(email)
+        userEntity user = userCache.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
         return toUserDTO(user);
     }
@@ -0,0 +1,7 @@
+package com.example.server.exception.CustomExceptions;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -47,6 +47,11 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.FORBIDDEN, ex.getMessage(), req);
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailable(ServiceUnavailableException ex, HttpServletRequest req) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), req);
+    }
+
     // Job exceptions
     @ExceptionHandler(JobNotFoundException.class)
     public ResponseEntity<ExceptionResponse> handleJobNotFound(JobNotFoundException ex, HttpServletRequest req) {
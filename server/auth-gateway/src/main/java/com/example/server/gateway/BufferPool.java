@@ -0,0 +1,43 @@
+package com.example.server.gateway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Fixed-size pool of copy buffers for streaming proxied bodies.
+ *
+ * Each in-flight passthrough holds exactly one buffer, so the memory a request needs does not
+ * grow with the size of the downstream response. When the pool is empty a fresh buffer is
+ * handed out instead of blocking; on release it is only kept if the pool has room, so the
+ * retained memory never exceeds poolSize * bufferSize.
+ */
+@Component
+public class BufferPool {
+
+    private final int                   bufferSize;
+    private final BlockingQueue<byte[]> buffers;
+
+    public BufferPool(@Value("${gateway.buffer.size:8192}")      int bufferSize,
+                      @Value("${gateway.buffer.pool-size:256}") int poolSize) {
+        this.bufferSize = bufferSize;
+        this.buffers    = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+}
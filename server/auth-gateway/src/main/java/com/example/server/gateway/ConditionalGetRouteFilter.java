@@ -0,0 +1,107 @@
+package com.example.server.gateway;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+
+/**
+ * Conditional GET for read routes. Every 200 response leaves with a strong ETag: the downstream
+ * one when it is strong, otherwise an MD5 of the body (the hash Spring's ShallowEtagHeaderFilter
+ * uses). When the client's If-None-Match matches, the body is dropped and 304 is returned.
+ *
+ * Responses are private and must be revalidated, except those the route declares immutable
+ * (a finished review or evaluation never changes), which clients may keep for a long time.
+ */
+public final class ConditionalGetRouteFilter implements RouteFilter {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final byte[]       NO_BODY    = new byte[0];
+
+    private final Predicate<ProxyResponse> immutable;
+    private final CacheControl             immutableCacheControl;
+
+    private ConditionalGetRouteFilter(Predicate<ProxyResponse> immutable, CacheControl immutableCacheControl) {
+        this.immutable             = immutable;
+        this.immutableCacheControl = immutableCacheControl;
+    }
+
+    public static ConditionalGetRouteFilter revalidate() {
+        return new ConditionalGetRouteFilter(null, null);
+    }
+
+    /**
+     * @param immutable tested against the buffered 200 response
+     */
+    public static ConditionalGetRouteFilter immutableWhen(Predicate<ProxyResponse> immutable, Duration maxAge) {
+        return new ConditionalGetRouteFilter(immutable, CacheControl.maxAge(maxAge).cachePrivate().immutable());
+    }
+
+    @Override
+    public CompletableFuture<ProxyResponse> filter(ProxyExchange exchange, RouteFilterChain chain) {
+        String ifNoneMatch = exchange.request().getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        return chain.proceed(exchange).thenApply(response -> {
+            if (response.status() != HttpStatus.OK.value()) {
+                return response;
+            }
+            try {
+                return conditional(response, ifNoneMatch);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private ProxyResponse conditional(ProxyResponse response, String ifNoneMatch) throws IOException {
+        String  etag   = response.headers().getETag();
+        boolean strong = etag != null && etag.startsWith("\"");
+
+        // The downstream tag spares reading the body, unless the immutability check needs it
+        if (!strong || immutable != null) {
+            response = response.buffer();
+        }
+        if (!strong) {
+            etag = "\"" + DigestUtils.md5DigestAsHex(response.body()) + "\"";
+        }
+
+        CacheControl cacheControl = immutable != null && immutable.test(response) ? immutableCacheControl : REVALIDATE;
+        response.headers().setETag(etag);
+        response.headers().setCacheControl(cacheControl);
+
+        if (!matches(ifNoneMatch, etag)) {
+            return response;
+        }
+        response.close();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(cacheControl);
+        return ProxyResponse.buffered(HttpStatus.NOT_MODIFIED.value(), headers, NO_BODY);
+    }
+
+    /**
+     * If-None-Match uses the weak comparison (RFC 9110, 13.1.2).
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        List<ETag> candidates = ETag.parse(ifNoneMatch);
+        for (ETag candidate : candidates) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
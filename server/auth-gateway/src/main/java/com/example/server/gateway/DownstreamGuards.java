@@ -0,0 +1,169 @@
+package com.example.server.gateway;
+
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * A circuit breaker and a bulkhead per downstream feature, so one slow or failing dependency
+ * cannot hold every container thread or degrade unrelated endpoints.
+ *
+ * Feign calls are guarded by client name (jobClient, resumeJsonClient, aiClient, see
+ * {@link GuardedFeignCapability}); engine routes by the feature prefix of their id (job,
+ * compatibility, interview, notification, course), applied by {@link GatewayHandler} as the
+ * innermost filter, so cache hits and coalesced requests never take a permit. Calls beyond the
+ * bulkhead's limit, and every call while the breaker is open, fail at once with 503 instead of
+ * waiting for the read timeout. Exceptions and 5xx responses count as failures; so do slow
+ * calls, once all calls of the window are slow.
+ *
+ * Settings are read per name as {@code gateway.resilience.<name>.<setting>}, falling back to
+ * {@code gateway.resilience.<setting>} and then to the defaults below. State, call and
+ * bulkhead metrics are published under resilience4j.circuitbreaker.* and
+ * resilience4j.bulkhead.*, tagged by name.
+ */
+@Component
+public class DownstreamGuards implements RouteFilter {
+
+    private static final Logger logger = Logger.getLogger(DownstreamGuards.class.getName());
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry       bulkheads       = BulkheadRegistry.ofDefaults();
+    private final Map<String, Guard>     guards          = new ConcurrentHashMap<>();
+    private final Environment            environment;
+
+    public DownstreamGuards(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+    }
+
+    public Guard guard(String name) {
+        return guards.computeIfAbsent(name, this::createGuard);
+    }
+
+    @Override
+    public CompletableFuture<ProxyResponse> filter(ProxyExchange exchange, RouteFilterChain chain) {
+        Guard guard = guard(feature(exchange.route()));
+        long  start = guard.acquire();
+
+        CompletableFuture<ProxyResponse> downstream;
+        try {
+            downstream = chain.proceed(exchange);
+        } catch (RuntimeException e) {
+            downstream = CompletableFuture.failedFuture(e);
+        }
+
+        return downstream.whenComplete((response, error) -> {
+            if (error != null) {
+                guard.failed(start, error);
+            } else {
+                guard.completed(start, response.status());
+            }
+        });
+    }
+
+    /**
+     * Route ids are "feature.action"; every route of a feature shares its guard.
+     */
+    private static String feature(Route route) {
+        int dot = route.id().indexOf('.');
+        return dot > 0 ? route.id().substring(0, dot) : route.id();
+    }
+
+    private Guard createGuard(String name) {
+        Settings settings = new Settings(name, environment);
+
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(name, CircuitBreakerConfig.custom()
+                .slidingWindowSize(settings.integer("sliding-window-size", 20))
+                .minimumNumberOfCalls(settings.integer("minimum-number-of-calls", 10))
+                .failureRateThreshold(settings.integer("failure-rate-threshold", 50))
+                .slowCallDurationThreshold(settings.duration("slow-call-duration", Duration.ofSeconds(20)))
+                .slowCallRateThreshold(settings.integer("slow-call-rate-threshold", 100))
+                .waitDurationInOpenState(settings.duration("wait-in-open-state", Duration.ofSeconds(30)))
+                .permittedNumberOfCallsInHalfOpenState(settings.integer("permitted-calls-in-half-open-state", 3))
+                .recordResult(status -> status instanceof Integer code && code >= 500)
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                logger.warning("Circuit breaker " + name + ": " + event.getStateTransition()));
+
+        // The default leaves room for several saturated features within Tomcat's 200 threads
+        Bulkhead bulkhead = bulkheads.bulkhead(name, BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.integer("max-concurrent-calls", 25))
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        return new Guard(name, circuitBreaker, bulkhead);
+    }
+
+    /**
+     * Wraps one downstream call: {@link #acquire()} before it, then exactly one of
+     * {@link #completed} or {@link #failed} once it is over.
+     */
+    public static final class Guard {
+
+        private final String         name;
+        private final CircuitBreaker circuitBreaker;
+        private final Bulkhead       bulkhead;
+
+        private Guard(String name, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+            this.name           = name;
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead       = bulkhead;
+        }
+
+        /**
+         * @return the start time to pass back once the call is over
+         * @throws ServiceUnavailableException when the breaker is open or the bulkhead is full
+         */
+        public long acquire() {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new ServiceUnavailableException("Service temporarily unavailable: " + name);
+            }
+            if (!bulkhead.tryAcquirePermission()) {
+                circuitBreaker.releasePermission();
+                throw new ServiceUnavailableException("Service busy, try again later: " + name);
+            }
+            return System.nanoTime();
+        }
+
+        public void completed(long start, int status) {
+            bulkhead.onComplete();
+            circuitBreaker.onResult(System.nanoTime() - start, TimeUnit.NANOSECONDS, status);
+        }
+
+        public void failed(long start, Throwable error) {
+            bulkhead.onComplete();
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, error);
+        }
+    }
+
+    private record Settings(String name, Environment environment) {
+
+        int integer(String key, int defaultValue) {
+            return environment.getProperty("gateway.resilience." + name + "." + key, Integer.class,
+                    environment.getProperty("gateway.resilience." + key, Integer.class, defaultValue));
+        }
+
+        Duration duration(String key, Duration defaultValue) {
+            return environment.getProperty("gateway.resilience." + name + "." + key, Duration.class,
+                    environment.getProperty("gateway.resilience." + key, Duration.class, defaultValue));
+        }
+    }
+}
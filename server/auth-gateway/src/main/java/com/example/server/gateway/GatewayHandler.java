@@ -0,0 +1,210 @@
+package com.example.server.gateway;
+
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpRequestHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves every request matched by {@link GatewayHandlerMapping}. The route's filters run on the
+ * request thread, then the servlet request goes async while the downstream call is in flight,
+ * so no container thread waits on a Node service. The response is written from the OkHttp
+ * thread that received it.
+ */
+@Component
+public class GatewayHandler implements HttpRequestHandler {
+
+    private static final Logger logger = Logger.getLogger(GatewayHandler.class.getName());
+
+    /**
+     * Client request headers forwarded downstream. Credentials (Authorization, cookies) stay
+     * at the gateway: downstream services trust it, not the caller.
+     */
+    private static final List<String> REQUEST_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.ACCEPT,
+            HttpHeaders.ACCEPT_ENCODING,
+            HttpHeaders.ACCEPT_LANGUAGE);
+
+    private final ProxyClient                    proxyClient;
+    private final StreamingResponseWriter        responseWriter;
+    private final ObjectMapper                   objectMapper;
+    private final List<RouteFilter>              globalFilters;
+    private final DownstreamGuards               downstreamGuards;
+    private final Map<String, List<RouteFilter>> filtersByRoute = new ConcurrentHashMap<>();
+    private final int                            maxRequestBodyBytes;
+    private final long                           asyncTimeoutMillis;
+
+    public GatewayHandler(ProxyClient             proxyClient,
+                          StreamingResponseWriter responseWriter,
+                          ObjectMapper            objectMapper,
+                          MetricsRouteFilter      metricsRouteFilter,
+                          DownstreamGuards        downstreamGuards,
+                          @Value("${gateway.max-request-body:1048576}") int  maxRequestBodyBytes,
+                          @Value("${gateway.async-timeout:35000}")      long asyncTimeoutMillis) {
+
+        this.proxyClient         = proxyClient;
+        this.responseWriter      = responseWriter;
+        this.objectMapper        = objectMapper;
+        this.globalFilters       = List.of(metricsRouteFilter);
+        this.downstreamGuards    = downstreamGuards;
+        this.maxRequestBodyBytes = maxRequestBodyBytes;
+        this.asyncTimeoutMillis  = asyncTimeoutMillis;
+    }
+
+    @Override
+    public void handleRequest(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        RouteTable.RouteMatch match = (RouteTable.RouteMatch) request.getAttribute(GatewayHandlerMapping.ROUTE_MATCH_ATTRIBUTE);
+
+        byte[] body = readBody(request);
+        if (body != null && body.length > maxRequestBodyBytes) {
+            responseWriter.write(ProxyResponse.error(objectMapper, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Request body too large", request.getRequestURI()), response);
+            return;
+        }
+
+        ProxyExchange exchange = new ProxyExchange(request, match.route(), match.variables(), forwardedHeaders(request), body);
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(asyncTimeoutMillis);
+        AtomicBoolean done = new AtomicBoolean();
+        asyncContext.addListener(new TimeoutListener(done, request.getRequestURI()));
+
+        proceed(exchange, filters(match.route()), 0).whenComplete((proxyResponse, error) -> {
+            if (!done.compareAndSet(false, true)) {
+                closeQuietly(proxyResponse);
+                return;
+            }
+            try {
+                responseWriter.write(proxyResponse != null ? proxyResponse : errorResponse(error, request), response);
+            } catch (IOException e) {
+                logger.log(Level.FINE, "Client went away while writing " + request.getRequestURI(), e);
+            } finally {
+                asyncContext.complete();
+            }
+        });
+    }
+
+    private CompletableFuture<ProxyResponse> proceed(ProxyExchange exchange, List<RouteFilter> filters, int index) {
+        if (index == filters.size()) {
+            return proxyClient.execute(exchange);
+        }
+        try {
+            return filters.get(index).filter(exchange, next -> proceed(next, filters, index + 1));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private List<RouteFilter> filters(Route route) {
+        return filtersByRoute.computeIfAbsent(route.id(), id -> {
+            List<RouteFilter> filters = new ArrayList<>(globalFilters);
+            filters.addAll(route.filters());
+            // Innermost, so only requests that really go downstream take a permit
+            filters.add(downstreamGuards);
+            return List.copyOf(filters);
+        });
+    }
+
+    private ProxyResponse errorResponse(Throwable error, HttpServletRequest request) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (cause instanceof IOException || cause instanceof ServiceUnavailableException) {
+            logger.warning("Downstream call failed for " + request.getRequestURI() + ": " + cause);
+            return ProxyResponse.error(objectMapper, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Service temporarily unavailable", request.getRequestURI());
+        }
+        logger.log(Level.SEVERE, "Gateway route failed for " + request.getRequestURI(), cause);
+        return ProxyResponse.error(objectMapper, HttpStatus.INTERNAL_SERVER_ERROR,
+                "Unexpected error occurred", request.getRequestURI());
+    }
+
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() <= 0 && request.getHeader(HttpHeaders.TRANSFER_ENCODING) == null) {
+            return null;
+        }
+        try (InputStream in = request.getInputStream()) {
+            // One byte past the limit is enough to tell that the body is too large
+            return in.readNBytes(maxRequestBodyBytes + 1);
+        }
+    }
+
+    private static HttpHeaders forwardedHeaders(HttpServletRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) {
+                headers.add(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private static void closeQuietly(ProxyResponse response) {
+        if (response == null) {
+            return;
+        }
+        try {
+            response.close();
+        } catch (IOException ignored) {
+            // the connection is being discarded anyway
+        }
+    }
+
+    /**
+     * Answers 504 if the downstream call outlives the async timeout; a response arriving later
+     * is dropped by the completion callback.
+     */
+    private final class TimeoutListener implements AsyncListener {
+
+        private final AtomicBoolean done;
+        private final String        path;
+
+        private TimeoutListener(AtomicBoolean done, String path) {
+            this.done = done;
+            this.path = path;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) throws IOException {
+            if (done.compareAndSet(false, true)) {
+                responseWriter.write(ProxyResponse.error(objectMapper, HttpStatus.GATEWAY_TIMEOUT,
+                        "Downstream service timed out", path), (HttpServletResponse) event.getSuppliedResponse());
+                event.getAsyncContext().complete();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            done.set(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.server.gateway;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.handler.AbstractHandlerMapping;
+
+/**
+ * Plugs the route table into the DispatcherServlet. It is ordered right after the annotated
+ * controllers (RequestMappingHandlerMapping has order 0), so a hand-written endpoint always
+ * wins over a route with an overlapping pattern, e.g. GET /api/job/suggestions over
+ * GET /api/job/{jobId}.
+ */
+@Component
+public class GatewayHandlerMapping extends AbstractHandlerMapping {
+
+    static final String ROUTE_MATCH_ATTRIBUTE = GatewayHandlerMapping.class.getName() + ".routeMatch";
+
+    private final RouteTable     routeTable;
+    private final GatewayHandler gatewayHandler;
+
+    public GatewayHandlerMapping(RouteTable routeTable, GatewayHandler gatewayHandler) {
+        this.routeTable     = routeTable;
+        this.gatewayHandler = gatewayHandler;
+        setOrder(1);
+    }
+
+    @Override
+    protected Object getHandlerInternal(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(initLookupPath(request));
+
+        return routeTable.match(HttpMethod.valueOf(request.getMethod()), path)
+                .map(match -> {
+                    request.setAttribute(ROUTE_MATCH_ATTRIBUTE, match);
+                    return (Object) gatewayHandler;
+                })
+                .orElse(null);
+    }
+}
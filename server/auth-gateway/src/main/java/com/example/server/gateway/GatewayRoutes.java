@@ -0,0 +1,171 @@
+package com.example.server.gateway;
+
+import com.example.server.job.Service.JobCatalogCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import static com.example.server.gateway.Route.route;
+
+/**
+ * Endpoints that only forward a request to a downstream service. Adding one is a new entry
+ * here instead of a Feign method plus a controller method; endpoints that read the user
+ * document or reshape the payload stay in their controllers.
+ */
+@Configuration
+public class GatewayRoutes {
+
+    public static final String JOB          = "job";
+    public static final String RESUME       = "resume";
+    public static final String INTERVIEW    = "interview";
+    public static final String NOTIFICATION = "notification";
+
+    /**
+     * How long clients may keep a response that can no longer change.
+     */
+    private static final Duration IMMUTABLE_MAX_AGE = Duration.ofDays(365);
+
+    @Bean
+    public RouteTable routeTable(@Value("${job.service.url}")          String jobServiceUrl,
+                                 @Value("${resume.service.url}")       String resumeServiceUrl,
+                                 @Value("${interview.service.url}")    String interviewServiceUrl,
+                                 @Value("${notification.service.url}") String notificationServiceUrl,
+                                 IdentityRouteFilter     identity,
+                                 SingleFlightRouteFilter singleFlight,
+                                 JobCatalogCache         jobCatalogCache,
+                                 ObjectMapper            objectMapper) {
+
+        return RouteTable.builder()
+                .downstream(JOB,          jobServiceUrl)
+                .downstream(RESUME,       resumeServiceUrl)
+                .downstream(INTERVIEW,    interviewServiceUrl)
+                .downstream(NOTIFICATION, notificationServiceUrl)
+
+                // Jobs
+                .route(route("job.active")
+                        .get("/api/job/active-jobs")
+                        .to(JOB, "/api/jobs/")
+                        .filter(jobCatalogCache.readThrough())
+                        .filter(singleFlight)
+                        .build())
+                .route(route("job.by-id")
+                        .get("/api/job/{jobId}")
+                        .to(JOB, "/api/jobs/{jobId}")
+                        .filter(ConditionalGetRouteFilter.revalidate())
+                        .filter(jobCatalogCache.readThrough())
+                        .filter(singleFlight)
+                        .build())
+                .route(route("job.delete")
+                        .delete("/api/job/{jobId}")
+                        .to(JOB, "/api/jobs/{jobId}?email={email}")
+                        .filter(identity)
+                        .filter(jobCatalogCache.invalidateOnSuccess("job-deleted"))
+                        .build())
+                .route(route("job.generate-questions")
+                        .post("/api/job/generate/interview-questions")
+                        .to(JOB, "/api/jobs/generate/interview-questions")
+                        .build())
+                .route(route("job.questions")
+                        .get("/api/job/{jobId}/questions")
+                        .to(JOB, "/api/jobs/{jobId}/interview-questions")
+                        .filter(ConditionalGetRouteFilter.revalidate())
+                        .build())
+                .route(route("compatibility.by-id")
+                        .get("/api/compatibility/{reviewId}")
+                        .to(JOB, "/api/compatibility/{reviewId}")
+                        // A review is written once and never updated
+                        .filter(ConditionalGetRouteFilter.immutableWhen(response -> true, IMMUTABLE_MAX_AGE))
+                        .filter(singleFlight)
+                        .build())
+
+                // Interviews
+                .route(route("interview.mine")
+                        .get("/api/interviews/")
+                        .to(INTERVIEW, "/api/interview/user/{userId}")
+                        .filter(identity)
+                        .build())
+                .route(route("interview.by-id")
+                        .get("/api/interviews/{interviewId}")
+                        .to(INTERVIEW, "/api/interview/{interviewId}")
+                        .build())
+                .route(route("interview.by-job-and-candidate")
+                        .get("/api/interviews/job/{jobId}/candidate/{candidateId}")
+                        .to(INTERVIEW, "/api/interview/job/{jobId}/candidate/{candidateId}")
+                        .build())
+                .route(route("interview.transcript")
+                        .post("/api/interviews/{interviewId}/transcript")
+                        .to(INTERVIEW, "/api/interview/{interviewId}/transcript")
+                        .as(HttpMethod.PUT)
+                        .build())
+                .route(route("interview.evaluation")
+                        .get("/api/interviews/{interviewId}/evaluation")
+                        .to(INTERVIEW, "/api/interview/{interviewId}/evaluation")
+                        // "data" stays null until the interview has been evaluated
+                        .filter(ConditionalGetRouteFilter.immutableWhen(hasData(objectMapper), IMMUTABLE_MAX_AGE))
+                        .build())
+
+                // Notifications
+                .route(route("notification.mine")
+                        .get("/api/notifications/")
+                        .to(NOTIFICATION, "/api/notifications/{userId}")
+                        .filter(identity)
+                        .build())
+                .route(route("notification.read")
+                        .patch("/api/notifications/{notificationId}/read")
+                        .to(NOTIFICATION, "/api/notifications/{notificationId}/read")
+                        .as(HttpMethod.PUT)
+                        .build())
+                .route(route("notification.read-all")
+                        .patch("/api/notifications/read-all")
+                        .to(NOTIFICATION, "/api/notifications/{userId}/read-all")
+                        .as(HttpMethod.PUT)
+                        .filter(identity)
+                        .build())
+                .route(route("notification.delete")
+                        .delete("/api/notifications/{notificationId}")
+                        .to(NOTIFICATION, "/api/notifications/{notificationId}")
+                        .build())
+
+                // Courses
+                .route(route("course.suggestions")
+                        .get("/api/course/suggestions")
+                        .to(RESUME, "/api/course/suggestions?candidateEmail={email}")
+                        .filter(identity)
+                        .build())
+                .route(route("course.save")
+                        .post("/api/course/save")
+                        .to(RESUME, "/api/course/candidate/{userId}/save")
+                        .filter(identity)
+                        .build())
+                .route(route("course.saved")
+                        .get("/api/course/saved/all")
+                        .to(RESUME, "/api/course/candidate/{userId}/saved/all")
+                        .filter(identity)
+                        .build())
+                .route(route("course.delete")
+                        .delete("/api/course/delete/{videoId}")
+                        .to(RESUME, "/api/course/candidate/{userId}/delete/{videoId}")
+                        .filter(identity)
+                        .build())
+                .build();
+    }
+
+    /**
+     * True for a downstream envelope ({ "success": ..., "data": ... }) whose data is set.
+     */
+    private static Predicate<ProxyResponse> hasData(ObjectMapper objectMapper) {
+        return response -> {
+            try {
+                return objectMapper.readTree(response.body()).hasNonNull("data");
+            } catch (IOException e) {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.server.gateway;
+
+import feign.Capability;
+import feign.Client;
+import feign.Response;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Puts every Feign call behind the {@link DownstreamGuards} guard of its client name. Spring
+ * Cloud OpenFeign applies Capability beans to all clients, including those with their own
+ * {@link Client} (aiClient), so no client needs its own wiring.
+ */
+@Component
+public class GuardedFeignCapability implements Capability {
+
+    private final DownstreamGuards downstreamGuards;
+
+    public GuardedFeignCapability(DownstreamGuards downstreamGuards) {
+        this.downstreamGuards = downstreamGuards;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            DownstreamGuards.Guard guard = downstreamGuards.guard(request.requestTemplate().feignTarget().name());
+            long start = guard.acquire();
+
+            Response response;
+            try {
+                response = client.execute(request, options);
+            } catch (IOException | RuntimeException e) {
+                guard.failed(start, e);
+                throw e;
+            }
+            guard.completed(start, response.status());
+            return response;
+        };
+    }
+}
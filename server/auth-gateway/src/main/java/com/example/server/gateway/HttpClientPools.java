@@ -0,0 +1,212 @@
+package com.example.server.gateway;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * One OkHttp client, with its own connection pool and dispatcher, per downstream service of
+ * the {@link RouteTable} (job, resume, interview, notification), plus a default pool for any
+ * other host. Both the gateway engine and every Feign client ({@link PooledFeignClient}) send
+ * their calls through these pools, so connections to a Node service are opened once and kept
+ * alive instead of being set up on the request path.
+ *
+ * Settings are read per pool as {@code gateway.http.<pool>.<setting>}, falling back to
+ * {@code gateway.http.<setting>} and then to the defaults below.
+ */
+@Component
+public class HttpClientPools {
+
+    public static final String DEFAULT_POOL = "default";
+
+    private static final Logger logger = Logger.getLogger(HttpClientPools.class.getName());
+
+    private final Map<String, Pool> poolsByName = new LinkedHashMap<>();
+    private final Map<String, Pool> poolsByHost = new HashMap<>();
+
+    public HttpClientPools(RouteTable routeTable, Environment environment, MeterRegistry meterRegistry) {
+        poolsByName.put(DEFAULT_POOL, createPool(DEFAULT_POOL, null, environment, meterRegistry));
+
+        routeTable.downstreams().forEach((name, baseUrl) -> {
+            Pool pool = createPool(name, baseUrl, environment, meterRegistry);
+            poolsByName.put(name, pool);
+            poolsByHost.putIfAbsent(hostKey(URI.create(baseUrl)), pool);
+        });
+    }
+
+    /**
+     * Client of the named downstream; unknown names get the default pool.
+     */
+    public OkHttpClient client(String downstream) {
+        return poolsByName.getOrDefault(downstream, poolsByName.get(DEFAULT_POOL)).client();
+    }
+
+    /**
+     * Pool serving the host of the given URL, used to route Feign calls by their target URL.
+     */
+    public Pool poolFor(URI uri) {
+        return poolsByHost.getOrDefault(hostKey(uri), poolsByName.get(DEFAULT_POOL));
+    }
+
+    public Map<String, Pool> pools() {
+        return poolsByName;
+    }
+
+    /**
+     * Opens the configured number of connections to every downstream once the application is
+     * up, so the first user requests do not pay for TCP (and TLS) setup. The warm-up request is
+     * a HEAD on the service root; its status does not matter, only the connection it leaves in
+     * the pool. Failures are logged and otherwise ignored.
+     */
+    @org.springframework.context.event.EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        poolsByName.values().stream()
+                .filter(pool -> pool.baseUrl() != null && pool.prewarmConnections() > 0)
+                .forEach(pool -> {
+                    Request request = new Request.Builder().url(pool.baseUrl() + "/").head().build();
+                    for (int i = 0; i < pool.prewarmConnections(); i++) {
+                        pool.client().newCall(request).enqueue(new Callback() {
+                            @Override
+                            public void onFailure(Call call, IOException e) {
+                                logger.warning("Could not pre-warm pool " + pool.name() + ": " + e.getMessage());
+                            }
+
+                            @Override
+                            public void onResponse(Call call, Response response) {
+                                response.close();
+                            }
+                        });
+                    }
+                });
+    }
+
+    private static Pool createPool(String name, String baseUrl, Environment environment, MeterRegistry meterRegistry) {
+        Settings settings = new Settings(name, environment);
+
+        // With virtual threads enabled, callbacks (which write the proxied body to the client)
+        // run on virtual threads too instead of OkHttp's cached platform thread pool
+        Dispatcher dispatcher = Threading.VIRTUAL.isActive(environment)
+                ? new Dispatcher(new ExecutorServiceAdapter(new VirtualThreadTaskExecutor("http-" + name + "-")))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(settings.integer("max-connections", 64));
+        dispatcher.setMaxRequestsPerHost(settings.integer("max-connections", 64));
+
+        ConnectionPool connectionPool = new ConnectionPool(
+                settings.integer("max-idle-connections", 16),
+                settings.duration("keep-alive", Duration.ofMinutes(5)).toMillis(),
+                TimeUnit.MILLISECONDS);
+
+        Timer connectTimer = Timer.builder("gateway.http.connect")
+                .description("Time to establish a new downstream connection")
+                .tag("pool", name)
+                .register(meterRegistry);
+        Timer connectFailures = Timer.builder("gateway.http.connect.failures")
+                .tag("pool", name)
+                .register(meterRegistry);
+
+        OkHttpClient client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .connectTimeout(settings.duration("connect-timeout", Duration.ofSeconds(5)))
+                .readTimeout(settings.duration("read-timeout", Duration.ofSeconds(30)))
+                .writeTimeout(settings.duration("write-timeout", Duration.ofSeconds(30)))
+                .retryOnConnectionFailure(true)
+                .eventListenerFactory(call -> new ConnectTimingListener(connectTimer, connectFailures))
+                .build();
+
+        Gauge.builder("gateway.http.connections.active", connectionPool,
+                        pool -> pool.connectionCount() - pool.idleConnectionCount())
+                .tag("pool", name)
+                .register(meterRegistry);
+        Gauge.builder("gateway.http.connections.idle", connectionPool, ConnectionPool::idleConnectionCount)
+                .tag("pool", name)
+                .register(meterRegistry);
+        Gauge.builder("gateway.http.calls.running", dispatcher, Dispatcher::runningCallsCount)
+                .tag("pool", name)
+                .register(meterRegistry);
+        // Calls waiting for a free slot: anything above zero means the pool is saturated
+        Gauge.builder("gateway.http.calls.queued", dispatcher, Dispatcher::queuedCallsCount)
+                .tag("pool", name)
+                .register(meterRegistry);
+
+        return new Pool(name, baseUrl, client, settings.integer("prewarm-connections", 2));
+    }
+
+    private static String hostKey(URI uri) {
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return uri.getHost() + ":" + port;
+    }
+
+    public record Pool(String name, String baseUrl, OkHttpClient client, int prewarmConnections) {
+    }
+
+    private record Settings(String pool, Environment environment) {
+
+        int integer(String key, int defaultValue) {
+            return environment.getProperty("gateway.http." + pool + "." + key, Integer.class,
+                    environment.getProperty("gateway.http." + key, Integer.class, defaultValue));
+        }
+
+        Duration duration(String key, Duration defaultValue) {
+            return environment.getProperty("gateway.http." + pool + "." + key, Duration.class,
+                    environment.getProperty("gateway.http." + key, Duration.class, defaultValue));
+        }
+    }
+
+    /**
+     * Records how long new connections take to establish. Calls served from a pooled
+     * connection never reach connectStart, so this only measures real connection setup.
+     */
+    private static final class ConnectTimingListener extends EventListener {
+
+        private final Timer connectTimer;
+        private final Timer connectFailures;
+        private long        connectStart;
+
+        private ConnectTimingListener(Timer connectTimer, Timer connectFailures) {
+            this.connectTimer    = connectTimer;
+            this.connectFailures = connectFailures;
+        }
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress address, Proxy proxy) {
+            connectStart = System.nanoTime();
+        }
+
+        @Override
+        public void connectEnd(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol) {
+            connectTimer.record(System.nanoTime() - connectStart, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void connectFailed(Call call, InetSocketAddress address, Proxy proxy, Protocol protocol, IOException e) {
+            connectFailures.record(System.nanoTime() - connectStart, TimeUnit.NANOSECONDS);
+        }
+    }
+}
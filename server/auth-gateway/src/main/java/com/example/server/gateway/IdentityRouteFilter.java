@@ -0,0 +1,59 @@
+package com.example.server.gateway;
+
+import com.example.server.security.Service.CustomUserDetailsService;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.userEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Requires an authenticated caller and exposes its identity to the route's target path as
+ * the {@value #USER_ID} and {@value #EMAIL} variables, e.g. {@code /api/interview/user/{userId}}.
+ * The principal placed by JwtAuthenticationFilter already carries both, so this normally
+ * costs no database read.
+ */
+@Component
+public class IdentityRouteFilter implements RouteFilter {
+
+    public static final String USER_ID = "userId";
+    public static final String EMAIL   = "email";
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final ObjectMapper             objectMapper;
+
+    public IdentityRouteFilter(CustomUserDetailsService customUserDetailsService, ObjectMapper objectMapper) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.objectMapper             = objectMapper;
+    }
+
+    @Override
+    public CompletableFuture<ProxyResponse> filter(ProxyExchange exchange, RouteFilterChain chain) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return CompletableFuture.completedFuture(ProxyResponse.error(objectMapper, HttpStatus.UNAUTHORIZED,
+                    "Authentication required", exchange.request().getRequestURI()));
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthPrincipal authPrincipal) {
+            exchange.variable(USER_ID, authPrincipal.getId().toString());
+            exchange.variable(EMAIL, authPrincipal.getEmail());
+        } else if (principal instanceof userEntity user) {
+            exchange.variable(USER_ID, user.getId().toString());
+            exchange.variable(EMAIL, user.getEmail());
+        } else {
+            AuthPrincipal loaded = (AuthPrincipal) customUserDetailsService.loadUserByUsername(authentication.getName());
+            exchange.variable(USER_ID, loaded.getId().toString());
+            exchange.variable(EMAIL, loaded.getEmail());
+        }
+        return chain.proceed(exchange);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.server.gateway;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Feign {@link Client} used by every @FeignClient without its own client configuration.
+ * Each call goes out through the {@link HttpClientPools} pool of its target host instead of
+ * the default HttpURLConnection client, so Feign and the gateway engine share the same
+ * kept-alive connections. The pool's timeouts replace Feign's per-client Options.
+ */
+@Component
+public class PooledFeignClient implements Client {
+
+    private final HttpClientPools                        httpClientPools;
+    private final Map<String, feign.okhttp.OkHttpClient> delegates = new ConcurrentHashMap<>();
+
+    public PooledFeignClient(HttpClientPools httpClientPools) {
+        this.httpClientPools = httpClientPools;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        HttpClientPools.Pool pool = httpClientPools.poolFor(URI.create(request.url()));
+        feign.okhttp.OkHttpClient delegate = delegates.computeIfAbsent(pool.name(),
+                name -> new feign.okhttp.OkHttpClient(pool.client()));
+
+        // Matching the pool's own timeouts keeps feign-okhttp from deriving a new client per call
+        Request.Options poolOptions = new Request.Options(
+                pool.client().connectTimeoutMillis(), TimeUnit.MILLISECONDS,
+                pool.client().readTimeoutMillis(),    TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+        return delegate.execute(request, poolOptions);
+    }
+}
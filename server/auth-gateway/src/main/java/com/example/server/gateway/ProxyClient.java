@@ -0,0 +1,150 @@
+package com.example.server.gateway;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Terminal step of the gateway engine: sends the exchange to its downstream service through
+ * that service's pool in {@link HttpClientPools}, without blocking the calling thread. The returned future completes
+ * on an OkHttp dispatcher thread as soon as the response headers arrive; the body is left
+ * streaming.
+ */
+@Component
+public class ProxyClient {
+
+    /**
+     * Response headers handed back to the client. Hop-by-hop and connection-specific headers
+     * are never copied.
+     */
+    public static final List<String> RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.ETAG,
+            HttpHeaders.LAST_MODIFIED);
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final HttpClientPools httpClientPools;
+    private final RouteTable      routeTable;
+
+    public ProxyClient(HttpClientPools httpClientPools, RouteTable routeTable) {
+        this.httpClientPools = httpClientPools;
+        this.routeTable      = routeTable;
+    }
+
+    public CompletableFuture<ProxyResponse> execute(ProxyExchange exchange) {
+        CompletableFuture<ProxyResponse> future = new CompletableFuture<>();
+
+        OkHttpClient client = httpClientPools.client(exchange.route().downstream());
+        Call call = client.newCall(toRequest(exchange));
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                ResponseBody body = response.body();
+                future.complete(ProxyResponse.streaming(
+                        response.code(),
+                        responseHeaders(response.headers()),
+                        body != null ? body.byteStream() : InputStream.nullInputStream()));
+            }
+        });
+        return future;
+    }
+
+    Request toRequest(ProxyExchange exchange) {
+        Route route = exchange.route();
+
+        String url = UriComponentsBuilder
+                .fromUriString(routeTable.baseUrl(route.downstream()) + route.targetPath())
+                .buildAndExpand(exchange.variables())
+                .encode()
+                .toUriString();
+        String query = forwardedQuery(exchange.query(), route.targetQueryParams());
+        if (!query.isEmpty()) {
+            url += (url.indexOf('?') < 0 ? '?' : '&') + query;
+        }
+
+        Request.Builder builder = new Request.Builder().url(url);
+        exchange.headers().forEach((name, values) -> values.forEach(value -> builder.addHeader(name, value)));
+
+        String method = route.downstreamMethod().name();
+        builder.method(method, requestBody(exchange, method));
+        return builder.build();
+    }
+
+    /**
+     * The client's raw query string without the parameters the gateway sets itself. Names are
+     * compared decoded, and "name[...]" counts as "name" since Express merges both into one key;
+     * otherwise a client could add a second identity value next to the one from its token.
+     */
+    static String forwardedQuery(String query, Set<String> reserved) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        if (reserved.isEmpty()) {
+            return query;
+        }
+
+        StringJoiner forwarded = new StringJoiner("&");
+        for (String parameter : query.split("&")) {
+            if (parameter.isEmpty()) continue;
+            int    equals = parameter.indexOf('=');
+            String name   = URLDecoder.decode(equals < 0 ? parameter : parameter.substring(0, equals), StandardCharsets.UTF_8);
+            int    square = name.indexOf('[');
+            if (!reserved.contains(square < 0 ? name : name.substring(0, square))) {
+                forwarded.add(parameter);
+            }
+        }
+        return forwarded.toString();
+    }
+
+    private static RequestBody requestBody(ProxyExchange exchange, String method) {
+        byte[] body = exchange.body();
+        // OkHttp insists on a body for these methods, even an empty one
+        boolean requiresBody = "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+        if (body == null && !requiresBody) {
+            return null;
+        }
+
+        String contentType = exchange.headers().getFirst(HttpHeaders.CONTENT_TYPE);
+        return RequestBody.create(
+                body != null ? body : EMPTY_BODY,
+                contentType != null ? MediaType.parse(contentType) : null);
+    }
+
+    private static HttpHeaders responseHeaders(Headers headers) {
+        HttpHeaders forwarded = new HttpHeaders();
+        for (String name : RESPONSE_HEADERS) {
+            List<String> values = headers.values(name);
+            if (!values.isEmpty()) {
+                forwarded.put(name, values);
+            }
+        }
+        return forwarded;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.server.gateway;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * State of one request travelling through the gateway engine: the matched route, the URI
+ * variables used to expand its target path, the headers and body sent downstream and free
+ * attributes filters can use to pass data to each other.
+ */
+public final class ProxyExchange {
+
+    private final HttpServletRequest  request;
+    private final Route               route;
+    private final Map<String, String> variables;
+    private final HttpHeaders         headers;
+    private final byte[]              body;
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    public ProxyExchange(HttpServletRequest  request,
+                         Route               route,
+                         Map<String, String> variables,
+                         HttpHeaders         headers,
+                         byte[]              body) {
+        this.request   = request;
+        this.route     = route;
+        this.variables = new LinkedHashMap<>(variables);
+        this.headers   = headers;
+        this.body      = body;
+    }
+
+    public HttpServletRequest request() {
+        return request;
+    }
+
+    public Route route() {
+        return route;
+    }
+
+    public Map<String, String> variables() {
+        return variables;
+    }
+
+    public String variable(String name) {
+        return variables.get(name);
+    }
+
+    public void variable(String name, String value) {
+        variables.put(name, value);
+    }
+
+    /**
+     * Headers sent downstream; already filtered to the ones worth forwarding.
+     */
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    /**
+     * Request body to forward, or {@code null} when the client sent none.
+     */
+    public byte[] body() {
+        return body;
+    }
+
+    /**
+     * Raw, still encoded query string of the client request, or {@code null}.
+     */
+    public String query() {
+        return request.getQueryString();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T attribute(String name) {
+        return (T) attributes.get(name);
+    }
+
+    public void attribute(String name, Object value) {
+        attributes.put(name, value);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.server.gateway;
+
+import com.example.server.exception.handler.ExceptionResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Response produced by the gateway engine. The body is either still streaming from the
+ * downstream connection or already held in memory; filters that need the bytes (caching,
+ * hashing) call {@link #buffer()}, everything else lets the body stream through.
+ */
+public final class ProxyResponse implements Closeable {
+
+    private final int         status;
+    private final HttpHeaders headers;
+    private final byte[]      body;
+    private final InputStream stream;
+
+    private ProxyResponse(int status, HttpHeaders headers, byte[] body, InputStream stream) {
+        this.status  = status;
+        this.headers = headers;
+        this.body    = body;
+        this.stream  = stream;
+    }
+
+    public static ProxyResponse streaming(int status, HttpHeaders headers, InputStream stream) {
+        return new ProxyResponse(status, headers, null, stream);
+    }
+
+    public static ProxyResponse buffered(int status, HttpHeaders headers, byte[] body) {
+        return new ProxyResponse(status, headers, body, null);
+    }
+
+    /**
+     * Error in the same JSON shape GlobalExceptionHandler produces for controllers.
+     */
+    public static ProxyResponse error(ObjectMapper objectMapper, HttpStatus status, String message, String path) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(
+                    new ExceptionResponse(status.value(), status.getReasonPhrase(), message, path));
+            return buffered(status.value(), headers, body);
+        } catch (JsonProcessingException e) {
+            return buffered(status.value(), headers, new byte[0]);
+        }
+    }
+
+    public int status() {
+        return status;
+    }
+
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+    public boolean isBuffered() {
+        return stream == null;
+    }
+
+    /**
+     * The in-memory body; only valid for buffered responses.
+     */
+    public byte[] body() {
+        if (!isBuffered()) {
+            throw new IllegalStateException("Response body is still streaming, call buffer() first");
+        }
+        return body;
+    }
+
+    public InputStream stream() {
+        return stream;
+    }
+
+    /**
+     * Reads a streaming body fully and returns the buffered equivalent; returns this
+     * response unchanged when it is already buffered.
+     */
+    public ProxyResponse buffer() throws IOException {
+        if (isBuffered()) {
+            return this;
+        }
+        try (InputStream in = stream) {
+            return buffered(status, headers, in.readAllBytes());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.server.gateway;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One entry of the route table: an incoming method and path pattern, the downstream service it
+ * is forwarded to and the path there. The target path is a URI template expanded with the
+ * captured path variables plus anything filters add to the exchange (e.g. the caller's id).
+ *
+ * Query parameters set by the target template (e.g. {@code ?email={email}}) belong to the
+ * gateway: the client's query string is forwarded without them, see {@link #targetQueryParams()}.
+ */
+public final class Route {
+
+    private final String            id;
+    private final HttpMethod        method;
+    private final PathPattern       pattern;
+    private final String            downstream;
+    private final HttpMethod        downstreamMethod;
+    private final String            targetPath;
+    private final Set<String>       targetQueryParams;
+    private final List<RouteFilter> filters;
+
+    private Route(Builder builder) {
+        this.id                = builder.id;
+        this.method            = builder.method;
+        this.pattern           = PathPatternParser.defaultInstance.parse(builder.path);
+        this.downstream        = builder.downstream;
+        this.downstreamMethod  = builder.downstreamMethod != null ? builder.downstreamMethod : builder.method;
+        this.targetPath        = builder.targetPath;
+        this.targetQueryParams = Set.copyOf(UriComponentsBuilder.fromUriString(builder.targetPath)
+                .build()
+                .getQueryParams()
+                .keySet());
+        this.filters           = List.copyOf(builder.filters);
+    }
+
+    public static Builder route(String id) {
+        return new Builder(id);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public HttpMethod method() {
+        return method;
+    }
+
+    public PathPattern pattern() {
+        return pattern;
+    }
+
+    public String downstream() {
+        return downstream;
+    }
+
+    public HttpMethod downstreamMethod() {
+        return downstreamMethod;
+    }
+
+    public String targetPath() {
+        return targetPath;
+    }
+
+    /**
+     * Names of the query parameters the target template sets; clients cannot supply them.
+     */
+    public Set<String> targetQueryParams() {
+        return targetQueryParams;
+    }
+
+    public List<RouteFilter> filters() {
+        return filters;
+    }
+
+    public static final class Builder {
+
+        private final String            id;
+        private final List<RouteFilter> filters = new ArrayList<>();
+        private HttpMethod              method;
+        private String                  path;
+        private String                  downstream;
+        private HttpMethod              downstreamMethod;
+        private String                  targetPath;
+
+        private Builder(String id) {
+            this.id = id;
+        }
+
+        public Builder get(String path) {
+            return match(HttpMethod.GET, path);
+        }
+
+        public Builder post(String path) {
+            return match(HttpMethod.POST, path);
+        }
+
+        public Builder patch(String path) {
+            return match(HttpMethod.PATCH, path);
+        }
+
+        public Builder delete(String path) {
+            return match(HttpMethod.DELETE, path);
+        }
+
+        public Builder match(HttpMethod method, String path) {
+            this.method = method;
+            this.path   = path;
+            return this;
+        }
+
+        public Builder to(String downstream, String targetPath) {
+            this.downstream = downstream;
+            this.targetPath = targetPath;
+            return this;
+        }
+
+        /**
+         * Forwards with a different HTTP method than the one the client used.
+         */
+        public Builder as(HttpMethod downstreamMethod) {
+            this.downstreamMethod = downstreamMethod;
+            return this;
+        }
+
+        public Builder filter(RouteFilter filter) {
+            this.filters.add(filter);
+            return this;
+        }
+
+        public Route build() {
+            if (method == null || path == null || downstream == null || targetPath == null) {
+                throw new IllegalStateException("Route " + id + " needs a method, a path and a target");
+            }
+            return new Route(this);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.server.gateway;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Per-route extension point of the gateway engine. A filter may change the exchange before
+ * calling {@code chain.proceed}, answer on its own without calling it, or post-process the
+ * response future it returns.
+ *
+ * Everything up to the downstream call runs on the servlet request thread, so the
+ * SecurityContext is available there; continuations of the returned future may not be.
+ */
+@FunctionalInterface
+public interface RouteFilter {
+
+    CompletableFuture<ProxyResponse> filter(ProxyExchange exchange, RouteFilterChain chain);
+}
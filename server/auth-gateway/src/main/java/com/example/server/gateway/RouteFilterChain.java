@@ -0,0 +1,9 @@
+package com.example.server.gateway;
+
+import java.util.concurrent.CompletableFuture;
+
+@FunctionalInterface
+public interface RouteFilterChain {
+
+    CompletableFuture<ProxyResponse> proceed(ProxyExchange exchange);
+}
@@ -0,0 +1,88 @@
+package com.example.server.gateway;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable set of routes plus the base URL of every downstream service they point to.
+ * Routes are grouped by method and, within a method, tried from the most specific pattern
+ * to the least specific one, the same precedence Spring MVC applies to controllers.
+ */
+public final class RouteTable {
+
+    private final Map<String, String>          downstreams;
+    private final Map<HttpMethod, List<Route>> routesByMethod;
+
+    private RouteTable(Map<String, String> downstreams, List<Route> routes) {
+        this.downstreams = Map.copyOf(downstreams);
+
+        Map<HttpMethod, List<Route>> byMethod = new HashMap<>();
+        for (Route route : routes) {
+            if (!downstreams.containsKey(route.downstream())) {
+                throw new IllegalStateException("Route " + route.id() + " targets unknown downstream " + route.downstream());
+            }
+            byMethod.computeIfAbsent(route.method(), method -> new ArrayList<>()).add(route);
+        }
+        byMethod.values().forEach(list -> list.sort((a, b) -> PathPattern.SPECIFICITY_COMPARATOR.compare(a.pattern(), b.pattern())));
+        byMethod.replaceAll((method, list) -> List.copyOf(list));
+        this.routesByMethod = byMethod;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Optional<RouteMatch> match(HttpMethod method, PathContainer path) {
+        for (Route route : routesByMethod.getOrDefault(method, Collections.emptyList())) {
+            PathPattern.PathMatchInfo info = route.pattern().matchAndExtract(path);
+            if (info != null) {
+                return Optional.of(new RouteMatch(route, info.getUriVariables()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String baseUrl(String downstream) {
+        return downstreams.get(downstream);
+    }
+
+    public Map<String, String> downstreams() {
+        return downstreams;
+    }
+
+    public List<Route> routes() {
+        return routesByMethod.values().stream().flatMap(List::stream).toList();
+    }
+
+    public record RouteMatch(Route route, Map<String, String> variables) {
+    }
+
+    public static final class Builder {
+
+        private final Map<String, String> downstreams = new LinkedHashMap<>();
+        private final List<Route>         routes      = new ArrayList<>();
+
+        public Builder downstream(String name, String baseUrl) {
+            downstreams.put(name, baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl);
+            return this;
+        }
+
+        public Builder route(Route route) {
+            routes.add(route);
+            return this;
+        }
+
+        public RouteTable build() {
+            return new RouteTable(downstreams, routes);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.server.gateway;
+
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces identical concurrent requests into one downstream call. The first request for a
+ * key (route, URI variables, query and forwarded headers) goes downstream; requests arriving
+ * while it is in flight wait for its response instead, and every caller gets its own copy of
+ * the buffered result, errors included. The key is released as soon as the call completes, so
+ * nothing is served after the fact.
+ *
+ * Followers wait at most gateway.single-flight.max-wait and then fail with 503 rather than
+ * piling onto a struggling service. Only for idempotent GETs whose response does not depend on
+ * the caller.
+ *
+ * Metrics: gateway.single-flight.calls by route and role (leader, follower), the coalescing
+ * ratio being followers over the total; gateway.single-flight.timeouts and .in-flight.
+ */
+@Component
+public class SingleFlightRouteFilter implements RouteFilter {
+
+    private final Map<String, CompletableFuture<ProxyResponse>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry                                 meterRegistry;
+    private final Duration                                      maxWait;
+
+    public SingleFlightRouteFilter(MeterRegistry meterRegistry,
+                                   @Value("${gateway.single-flight.max-wait:PT10S}") Duration maxWait) {
+
+        this.meterRegistry = meterRegistry;
+        this.maxWait       = maxWait;
+
+        Gauge.builder("gateway.single-flight.in-flight", inFlight, Map::size)
+                .description("Downstream calls currently shared by concurrent requests")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<ProxyResponse> filter(ProxyExchange exchange, RouteFilterChain chain) {
+        String key = key(exchange);
+
+        CompletableFuture<ProxyResponse> call     = new CompletableFuture<>();
+        CompletableFuture<ProxyResponse> existing = inFlight.putIfAbsent(key, call);
+
+        if (existing != null) {
+            count(exchange, "follower");
+            return existing
+                    .thenApply(SingleFlightRouteFilter::copy)
+                    .orTimeout(maxWait.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(error -> {
+                        if (unwrap(error) instanceof TimeoutException) {
+                            meterRegistry.counter("gateway.single-flight.timeouts", "route", exchange.route().id()).increment();
+                            throw new ServiceUnavailableException("Downstream service is busy");
+                        }
+                        throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                    });
+        }
+
+        count(exchange, "leader");
+        CompletableFuture<ProxyResponse> downstream;
+        try {
+            downstream = chain.proceed(exchange);
+        } catch (RuntimeException e) {
+            downstream = CompletableFuture.failedFuture(e);
+        }
+
+        downstream.whenComplete((response, error) -> {
+            inFlight.remove(key, call);
+            if (error != null) {
+                call.completeExceptionally(error);
+                return;
+            }
+            try {
+                call.complete(response.buffer());
+            } catch (IOException e) {
+                call.completeExceptionally(e);
+            }
+        });
+
+        // The shared response is never handed out itself, since filters may add to its headers
+        return call.thenApply(SingleFlightRouteFilter::copy);
+    }
+
+    private void count(ProxyExchange exchange, String role) {
+        Counter.builder("gateway.single-flight.calls")
+                .tag("route", exchange.route().id())
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String key(ProxyExchange exchange) {
+        return exchange.route().id()
+                + ' ' + new TreeMap<>(exchange.variables())
+                + '?' + exchange.query()
+                + ' ' + exchange.headers();
+    }
+
+    private static ProxyResponse copy(ProxyResponse shared) {
+        // addAll copies the value lists; putAll would share them between callers
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(shared.headers());
+        return ProxyResponse.buffered(shared.status(), headers, shared.body());
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.server.gateway;
+
+import feign.Response;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pipes a downstream response straight to the servlet response.
+ *
+ * Proxy methods that return {@link feign.Response} leave the body unread (Feign only buffers
+ * bodies of a few KB), so the bytes are copied through one pooled buffer without ever being
+ * decoded into a String. Status, content type and content encoding are forwarded unchanged;
+ * error statuses included, since the caller is just a passthrough. Responses of the route
+ * engine ({@link ProxyResponse}) are written the same way.
+ */
+@Component
+public class StreamingResponseWriter {
+
+    private static final List<String> FORWARDED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE,
+            HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.CONTENT_LENGTH);
+
+    private final BufferPool bufferPool;
+
+    public StreamingResponseWriter(BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    public void write(Response upstream, HttpServletResponse response) throws IOException {
+        try (upstream) {
+            response.setStatus(upstream.status());
+            for (String name : FORWARDED_HEADERS) {
+                String value = firstHeader(upstream, name);
+                if (value != null) {
+                    response.setHeader(name, value);
+                }
+            }
+
+            if (upstream.body() == null) {
+                return;
+            }
+            try (InputStream in = upstream.body().asInputStream()) {
+                copy(in, response.getOutputStream());
+            }
+        }
+    }
+
+    public void write(ProxyResponse upstream, HttpServletResponse response) throws IOException {
+        try (upstream) {
+            response.setStatus(upstream.status());
+            upstream.headers().forEach((name, values) -> {
+                for (String value : values) {
+                    response.addHeader(name, value);
+                }
+            });
+
+            if (upstream.isBuffered()) {
+                byte[] body = upstream.body();
+                if (body != null && body.length > 0) {
+                    response.setContentLength(body.length);
+                    response.getOutputStream().write(body);
+                }
+                return;
+            }
+            copy(upstream.stream(), response.getOutputStream());
+        }
+    }
+
+    private void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = bufferPool.acquire();
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.flush();
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * Feign keeps headers in a case-insensitive map, so the canonical name is enough.
+     */
+    private static String firstHeader(Response upstream, String name) {
+        Collection<String> values = upstream.headers().get(name);
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.iterator().next();
+    }
+}
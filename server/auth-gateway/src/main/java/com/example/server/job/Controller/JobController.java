@@ -3,15 +3,20 @@ package com.example.server.job.Controller;
 import com.example.server.UserProfile.Service.OrganizationService;
 import com.example.server.UserProfile.Service.UserService;
 import com.example.server.UserProfile.models.OrganizationEntity;
+import com.example.server.gateway.StreamingResponseWriter;
 import com.example.server.job.DTO.*;
 import com.example.server.job.Proxy.JobProxy;
+import com.example.server.job.Service.JobCatalogCache;
 import com.example.server.job.Service.JobService;
 import com.example.server.resume.exception.ResumeNotFoundException;
+import com.example.server.security.Config.CurrentUser;
 import com.example.server.security.models.userEntity;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
 import java.util.logging.Logger;
@@ -23,38 +28,31 @@ public class JobController {
 
     private static final Logger             logger = Logger.getLogger(JobController.class.getName());
     private        final JobProxy           jobProxy;
-    private        final UserDetailsService userDetailsService;
     private final UserService               userService;
     private final OrganizationService       organizationService;
     private final JobService jobService;
+    private final JobCatalogCache           jobCatalogCache;
+    private final StreamingResponseWriter   streamingResponseWriter;
 
 
-    public JobController(JobProxy            jobProxy,
-                         UserDetailsService  userDetailsService,
-                         UserService         userService,
-                         OrganizationService organizationService,
-                         JobService          jobService) {
+    public JobController(JobProxy                jobProxy,
+                         UserService             userService,
+                         OrganizationService     organizationService,
+                         JobService              jobService,
+                         JobCatalogCache         jobCatalogCache,
+                         StreamingResponseWriter streamingResponseWriter) {
 
-        this.userDetailsService  = userDetailsService;
-        this.jobProxy            = jobProxy;
-        this.userService         = userService;
-        this.organizationService = organizationService;
-        this.jobService          = jobService;
-    }
-
-    @GetMapping("/active-jobs")
-    public ResponseEntity<String> getAllActiveJobs(Principal principal) {
-        logger.info("Received get job request from "+ principal.getName());
-        ResponseEntity<String> response = jobProxy.getAllActiveJobs();
-
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
+        this.jobProxy                = jobProxy;
+        this.userService             = userService;
+        this.organizationService     = organizationService;
+        this.jobService              = jobService;
+        this.jobCatalogCache         = jobCatalogCache;
+        this.streamingResponseWriter = streamingResponseWriter;
     }
 
     @GetMapping("/organization/{OrganizationId}")
     public ResponseEntity<String> getAllJobsOfAnOrganization(@PathVariable("OrganizationId") String OrganizationId,
-                                                                                        Principal principal ) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+                                                             @CurrentUser userEntity user ) {
         if(!user.isHasAnyOrganization()){
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                       .body("User does not have any organization");
@@ -65,41 +63,27 @@ public class JobController {
     }
 
     @GetMapping("/user/applied")
-    public ResponseEntity<String> getAllJobsAppliedByUser(Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
-        ResponseEntity<String> response = jobProxy.getAllJobsAppliedByUser(user.getAppliedJobs());
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
+    public void getAllJobsAppliedByUser(@CurrentUser userEntity user, HttpServletResponse response) throws IOException {
+        streamingResponseWriter.write(jobProxy.getAllJobsAppliedByUser(user.getAppliedJobs()), response);
     }
 
     @GetMapping("/user/saved")
-    public ResponseEntity<String> getAllJobsSavedByUser(Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public void getAllJobsSavedByUser(@CurrentUser userEntity user, HttpServletResponse response) throws IOException {
         if(user.getSavedJobs().isEmpty()){
-            return ResponseEntity.status(HttpStatus.OK)
-                    .body("[]");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("[]");
+            return;
         }
-        ResponseEntity<String> response = jobProxy.getAllJobsSavedByUser(user.getSavedJobs());
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
-    }
-
-    @PostMapping("generate/interview-questions")
-    public ResponseEntity<String> generateInterviewQuestions(@RequestBody InterviewQuestionsGenerateRequest request,
-                                                            Principal principal) {
-        logger.info("Received generate interview questions request from "+ request.requirements());
-        ResponseEntity<String> response = jobProxy.generateInterviewQuestions(request);
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
+        streamingResponseWriter.write(jobProxy.getAllJobsSavedByUser(user.getSavedJobs()), response);
     }
 
     @PostMapping("/organization/{OrganizationId}")
     public ResponseEntity<String> createJob(@PathVariable ("OrganizationId") String OrganizationId,
                                             @RequestBody   JobCreationRequest jobCreationRequest,
+                                            @CurrentUser   userEntity user,
                                                            Principal principal ) {
 
         OrganizationEntity org = organizationService.getOrganizationById(OrganizationId);
-        userEntity user        = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
 
         jobCreationRequest.setCompanyInfo(
                 new JobCreationRequest.CompanyInfo(OrganizationId, principal.getName(), org.getOrganizationName()));
@@ -109,32 +93,19 @@ public class JobController {
                 " For the Organization: " + jobCreationRequest.getCompanyInfo());
 
         ResponseEntity<String> response = jobProxy.createJob(jobCreationRequest);
+        if (response.getStatusCode().is2xxSuccessful()) {
+            jobCatalogCache.invalidateActiveJobs("job-created");
+        }
 
         return ResponseEntity.status(response.getStatusCode())
                 .body(response.getBody());
     }
 
 
-    @GetMapping("/{jobId}")
-    public ResponseEntity<String> getJobById(@PathVariable ("jobId") String jobId) {
-
-        ResponseEntity<String> response = jobProxy.getJobById(jobId);
-            return ResponseEntity.status(response.getStatusCode())
-                    .body(response.getBody());
-    }
-
-    @DeleteMapping("/{jobId}")
-    public ResponseEntity<String> deleteJobById(@PathVariable ("jobId") String jobId, Principal principal) {
-        ResponseEntity<String> response =jobProxy.deleteJobById(jobId, principal.getName());
-
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
-    }
-
     @PostMapping("/{jobId}/apply")
-    public ResponseEntity<String> applyToAJob(@PathVariable("jobId") String jobId, Principal principal) {
-
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public ResponseEntity<String> applyToAJob(@PathVariable("jobId") String jobId,
+                                              @CurrentUser userEntity user,
+                                              Principal principal) {
 
         ResponseEntity<String> response = jobProxy.applyToAJob(
                 new JobApplicationRequest(jobId, principal.getName(),user.getId().toString(), user.getDisplayName()));
@@ -145,14 +116,16 @@ public class JobController {
             user.getAppliedJobs().add(jobId);
             userService.saveUpdatedUser(user);
         }
+        invalidateJobOnSuccess(jobId, response, "job-applied");
 
         return ResponseEntity.status(response.getStatusCode())
                 .body(response.getBody());
     }
 
     @PostMapping("/{jobId}/withdraw")
-    public ResponseEntity<String> withdrawApplicationFromAJob(@PathVariable("jobId") String jobId, Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public ResponseEntity<String> withdrawApplicationFromAJob(@PathVariable("jobId") String jobId,
+                                                              @CurrentUser userEntity user,
+                                                              Principal principal) {
         if(!user.getAppliedJobs().contains(jobId)){
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Job not in applied list");
@@ -166,15 +139,15 @@ public class JobController {
             user.getAppliedJobs().remove(jobId);
             userService.saveUpdatedUser(user);
         }
+        invalidateJobOnSuccess(jobId, response, "application-withdrawn");
 
         return ResponseEntity.status(response.getStatusCode())
                 .body(response.getBody());
     }
 
     @PostMapping("/{jobId}/save")
-    public ResponseEntity<String> saveAJob(@PathVariable("jobId") String jobId, Principal principal) {
+    public ResponseEntity<String> saveAJob(@PathVariable("jobId") String jobId, @CurrentUser userEntity user) {
 
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
         ResponseEntity<String> response = jobProxy.getJobById(jobId);
 
         if(user.getSavedJobs().contains(jobId)){
@@ -189,8 +162,7 @@ public class JobController {
     }
 
     @PostMapping("/{jobId}/unsave")
-    public ResponseEntity<String> unsaveAJob(@PathVariable("jobId") String jobId, Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public ResponseEntity<String> unsaveAJob(@PathVariable("jobId") String jobId, @CurrentUser userEntity user) {
         if(!user.getSavedJobs().contains(jobId)){
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Job not in saved list");
@@ -206,6 +178,7 @@ public class JobController {
 
         List<candidateInfo> candidates  = jobService.mapToCandidateInfo(shortlistRequest);
         ResponseEntity<String> response = jobProxy.shortlistCandidatesOfAJob(jobId, new ShortlistForwardWrapper(candidates));
+        invalidateJobOnSuccess(jobId, response, "candidates-shortlisted");
 
         logger.info(response.getBody());
         return ResponseEntity.status(response.getStatusCode())
@@ -219,6 +192,7 @@ public class JobController {
 
         List<candidateInfo> candidates  = jobService.mapToCandidateInfo(shortlistRequest);
         ResponseEntity<String> response = jobProxy.finalistCandidatesOfAJob(jobId, new ShortlistForwardWrapper(candidates));
+        invalidateJobOnSuccess(jobId, response, "candidates-finalisted");
 
         logger.info(response.getBody());
         return ResponseEntity.status(response.getStatusCode())
@@ -234,6 +208,7 @@ public class JobController {
 
         List<candidateInfo> candidates  = jobService.mapToCandidateInfo(shortlistRequest);
         ResponseEntity<String> response = jobProxy.rejectCandidatesOfAJob(jobId,status, new ShortlistForwardWrapper(candidates));
+        invalidateJobOnSuccess(jobId, response, "candidates-rejected");
 
         logger.info(response.getBody());
         return ResponseEntity.status(response.getStatusCode())
@@ -242,23 +217,22 @@ public class JobController {
 
 
 
-    @GetMapping("/{jobId}/questions")
-    public ResponseEntity<String> getInterviewQuestionsOfAJob(@PathVariable("jobId") String jobId, Principal principal) {
-        ResponseEntity<String> response = jobProxy.getInterviewQuestionsOfAJob(jobId);
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
-    }
-
 
     @GetMapping("/suggestions")
-    public ResponseEntity<String> getJobSuggestionsForCandidate(Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public void getJobSuggestionsForCandidate(@CurrentUser userEntity user, HttpServletResponse response) throws IOException {
         if (!user.isHasResume()) {
            throw new ResumeNotFoundException("Complete profile by uploading resume to get suggestions");
         }
-        ResponseEntity<String> response = jobProxy.getJobSuggestionsForCandidate(user.getId().toString());
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
+        streamingResponseWriter.write(jobProxy.getJobSuggestionsForCandidate(user.getId().toString()), response);
+    }
+
+    /**
+     * The job document embeds its applications, so every write to them drops the cached copy.
+     */
+    private void invalidateJobOnSuccess(String jobId, ResponseEntity<String> response, String reason) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            jobCatalogCache.invalidateJob(jobId, reason);
+        }
     }
 
 
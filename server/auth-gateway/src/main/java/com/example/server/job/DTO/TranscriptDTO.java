@@ -1,12 +0,0 @@
-package com.example.server.job.DTO;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@AllArgsConstructor
-public class TranscriptDTO {
-    private String role;
-    private String text;
-}
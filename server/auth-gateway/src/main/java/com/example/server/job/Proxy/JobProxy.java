@@ -1,6 +1,7 @@
 package com.example.server.job.Proxy;
 
 import com.example.server.job.DTO.*;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -14,20 +15,19 @@ import java.util.List;
         url  = "${job.service.url}/api/jobs")
 public interface JobProxy {
 
-    @GetMapping(value = "/")
-    ResponseEntity<String> getAllActiveJobs();
+    /*
+     * Methods returning feign.Response leave the body unread so it can be streamed to the
+     * client with StreamingResponseWriter instead of being buffered into a String.
+     */
 
     @GetMapping    (value = "/organization/{OrganizationId}")
     ResponseEntity<String> getAllJobsOfAnOrganization(@PathVariable ("OrganizationId") String OrganizationId);
 
     @PostMapping(value = "/user/applied")
-    ResponseEntity<String> getAllJobsAppliedByUser(@RequestBody List<String> jobIds);
+    Response getAllJobsAppliedByUser(@RequestBody List<String> jobIds);
 
     @PostMapping(value = "/user/saved")
-    ResponseEntity<String> getAllJobsSavedByUser(@RequestBody List<String> jobIds);
-
-    @PostMapping(value = "/generate/interview-questions")
-    ResponseEntity<String> generateInterviewQuestions(@RequestBody InterviewQuestionsGenerateRequest request);
+    Response getAllJobsSavedByUser(@RequestBody List<String> jobIds);
 
     @PostMapping   (value = "/", consumes = MediaType.APPLICATION_JSON_VALUE)
     ResponseEntity<String> createJob     ( @RequestBody   JobCreationRequest jobCreationRequest);
@@ -35,10 +35,6 @@ public interface JobProxy {
     @GetMapping    (value = "/{jobId}")
     ResponseEntity<String> getJobById    ( @PathVariable ("jobId") String jobId);
 
-    @DeleteMapping (value = "/{jobId}")
-    ResponseEntity<String> deleteJobById ( @PathVariable ("jobId") String jobId,
-                           @RequestParam ("email") String email);
-
 
     @DeleteMapping (value = "/organization/{OrganizationId}")
     ResponseEntity<String> deleteAllJobsOfAnOrganization(@PathVariable ("OrganizationId") String OrganizationId);
@@ -62,9 +58,6 @@ public interface JobProxy {
                                                         @PathVariable("status") String status,
                                                           @RequestBody ShortlistForwardWrapper shortlistForwardWrapper);
 
-    @GetMapping(value = "/{jobId}/interview-questions")
-    ResponseEntity<String> getInterviewQuestionsOfAJob(@PathVariable("jobId") String jobId);
-
     @GetMapping(value = "/candidates/{candidateId}/suggestions")
-    public ResponseEntity<String> getJobSuggestionsForCandidate(@PathVariable("candidateId") String candidateId);
+    public Response getJobSuggestionsForCandidate(@PathVariable("candidateId") String candidateId);
 }
@@ -0,0 +1,172 @@
+package com.example.server.job.Service;
+
+import com.example.server.gateway.ProxyResponse;
+import com.example.server.gateway.RouteFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gateway-side cache of the job catalog: the active-jobs listing and single job documents,
+ * as returned by the job service.
+ *
+ * The catalog only changes through this gateway (job creation and deletion, applications and
+ * their withdrawal, shortlisting, finalisting and rejecting candidates, which the job document
+ * embeds, and organization deletion), so entries are invalidated when one of those writes
+ * succeeds and the TTL is only a safety net for writes made through another node. A load that
+ * was in flight while an invalidation happened is served but not kept, so it cannot put back a
+ * pre-write copy.
+ *
+ * The job service counts views when a job is read; reads served from this cache do not reach
+ * it, so the downstream views counter only increments on misses.
+ *
+ * Metrics: cache.gets (hit/miss) under "jobs.catalog", jobs.catalog.entry.age for the age of
+ * every entry served from the cache, and jobs.catalog.invalidations by reason.
+ */
+@Component
+public class JobCatalogCache {
+
+    private static final String JOB_ID      = "jobId";
+    private static final String ACTIVE_JOBS = "active-jobs";
+    private static final String JOB_PREFIX  = "job:";
+
+    private final Cache<String, Entry> entries;
+    private final AtomicLong           generation = new AtomicLong();
+    private final MeterRegistry        meterRegistry;
+    private final Timer                entryAge;
+
+    public JobCatalogCache(MeterRegistry meterRegistry,
+                           @Value("${job.catalog.cache.max-size:5000}") long     maxSize,
+                           @Value("${job.catalog.cache.ttl:PT2M}")      Duration ttl) {
+
+        this.meterRegistry = meterRegistry;
+        this.entries       = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.entryAge      = Timer.builder("jobs.catalog.entry.age")
+                .description("Age of job catalog entries when served from the cache")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "jobs.catalog");
+    }
+
+    /**
+     * Read-through filter for the catalog routes. The key is the route's jobId variable, or
+     * the active listing for a route without one. Requests with a query string bypass the cache.
+     */
+    public RouteFilter readThrough() {
+        return (exchange, chain) -> {
+            if (exchange.query() != null) {
+                return chain.proceed(exchange);
+            }
+            String key = exchange.variable(JOB_ID) != null ? JOB_PREFIX + exchange.variable(JOB_ID) : ACTIVE_JOBS;
+
+            Entry cached = entries.getIfPresent(key);
+            if (cached != null) {
+                entryAge.record(Duration.ofNanos(System.nanoTime() - cached.cachedAtNanos()));
+                return CompletableFuture.completedFuture(cached.toResponse());
+            }
+
+            // Entries are served to every client, so store them unencoded
+            exchange.headers().remove(HttpHeaders.ACCEPT_ENCODING);
+            long loadGeneration = generation.get();
+
+            return chain.proceed(exchange).thenApply(response -> {
+                if (response.status() != HttpStatus.OK.value()) {
+                    return response;
+                }
+                try {
+                    ProxyResponse buffered = response.buffer();
+                    entries.put(key, new Entry(buffered.status(), copy(buffered.headers()), buffered.body(), System.nanoTime()));
+                    // Checked after the put: an invalidation bumps the generation before it invalidates
+                    if (generation.get() != loadGeneration) {
+                        entries.invalidate(key);
+                    }
+                    return buffered;
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            });
+        };
+    }
+
+    /**
+     * Invalidates the job named by the route's jobId variable, and the listing, once the
+     * downstream write returned a 2xx status.
+     */
+    public RouteFilter invalidateOnSuccess(String reason) {
+        return (exchange, chain) -> chain.proceed(exchange).thenApply(response -> {
+            if (HttpStatusCode.valueOf(response.status()).is2xxSuccessful()) {
+                invalidateJob(exchange.variable(JOB_ID), reason);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * A job was added: only the listing changed.
+     */
+    public void invalidateActiveJobs(String reason) {
+        generation.incrementAndGet();
+        entries.invalidate(ACTIVE_JOBS);
+        countInvalidation(reason);
+    }
+
+    public void invalidateJob(String jobId, String reason) {
+        generation.incrementAndGet();
+        if (jobId != null) {
+            entries.invalidate(JOB_PREFIX + jobId);
+        }
+        entries.invalidate(ACTIVE_JOBS);
+        countInvalidation(reason);
+    }
+
+    /**
+     * For writes whose affected job ids are unknown here, such as deleting an organization.
+     */
+    public void invalidateAll(String reason) {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+        countInvalidation(reason);
+    }
+
+    private void countInvalidation(String reason) {
+        Counter.builder("jobs.catalog.invalidations")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Cached headers are never handed out as is, since filters may add to a response's headers.
+     * addAll copies the value lists; putAll would share them with the entry.
+     */
+    private static HttpHeaders copy(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.addAll(headers);
+        return copy;
+    }
+
+    private record Entry(int status, HttpHeaders headers, byte[] body, long cachedAtNanos) {
+
+        ProxyResponse toResponse() {
+            return ProxyResponse.buffered(status, copy(headers), body);
+        }
+    }
+}
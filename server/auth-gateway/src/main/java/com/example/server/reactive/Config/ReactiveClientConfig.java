@@ -0,0 +1,108 @@
+package com.example.server.reactive.Config;
+
+import com.example.server.gateway.GatewayRoutes;
+import com.example.server.reactive.Proxy.CourseClient;
+import com.example.server.reactive.Proxy.JobClient;
+import com.example.server.reactive.Proxy.NotificationClient;
+import com.example.server.reactive.Proxy.ResumeClient;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebClient-backed replacements for the Feign proxies. Each downstream gets its own Reactor
+ * Netty connection pool, sized from the same gateway.http.* properties as
+ * {@link com.example.server.gateway.HttpClientPools}, so both stacks run with equal limits.
+ *
+ * Error statuses are not turned into exceptions: they are relayed to the client like any
+ * other response, as the servlet engine does.
+ */
+@Configuration
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveClientConfig implements DisposableBean {
+
+    private final Environment                     environment;
+    private final WebClient.Builder               webClientBuilder;
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    public ReactiveClientConfig(Environment environment, WebClient.Builder webClientBuilder) {
+        this.environment      = environment;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    @Bean
+    public JobClient jobClient(@Value("${job.service.url}") String jobServiceUrl) {
+        return client(GatewayRoutes.JOB, jobServiceUrl, JobClient.class);
+    }
+
+    @Bean
+    public ResumeClient resumeClient(@Value("${resume.service.url}") String resumeServiceUrl) {
+        return client(GatewayRoutes.RESUME, resumeServiceUrl, ResumeClient.class);
+    }
+
+    @Bean
+    public CourseClient courseClient(@Value("${resume.service.url}") String resumeServiceUrl) {
+        return client(GatewayRoutes.RESUME, resumeServiceUrl, CourseClient.class);
+    }
+
+    @Bean
+    public NotificationClient notificationClient(@Value("${notification.service.url}") String notificationServiceUrl) {
+        return client(GatewayRoutes.NOTIFICATION, notificationServiceUrl, NotificationClient.class);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private <T> T client(String downstream, String baseUrl, Class<T> type) {
+        HttpClient httpClient = HttpClient.create(connectionProviders.computeIfAbsent(downstream, this::connectionProvider))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) duration(downstream, "connect-timeout", Duration.ofSeconds(5)).toMillis())
+                .responseTimeout(duration(downstream, "read-timeout", Duration.ofSeconds(30)));
+
+        WebClient webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultStatusHandler(HttpStatusCode::isError, response -> Mono.empty())
+                .build();
+
+        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
+                .build()
+                .createClient(type);
+    }
+
+    private ConnectionProvider connectionProvider(String downstream) {
+        return ConnectionProvider.builder("gateway-" + downstream)
+                .maxConnections(integer(downstream, "max-connections", 64))
+                .maxIdleTime(duration(downstream, "keep-alive", Duration.ofMinutes(5)))
+                .metrics(true)
+                .build();
+    }
+
+    private int integer(String downstream, String key, int defaultValue) {
+        return environment.getProperty("gateway.http." + downstream + "." + key, Integer.class,
+                environment.getProperty("gateway.http." + key, Integer.class, defaultValue));
+    }
+
+    private Duration duration(String downstream, String key, Duration defaultValue) {
+        return environment.getProperty("gateway.http." + downstream + "." + key, Duration.class,
+                environment.getProperty("gateway.http." + key, Duration.class, defaultValue));
+    }
+}
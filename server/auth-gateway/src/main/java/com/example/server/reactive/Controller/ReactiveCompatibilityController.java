@@ -0,0 +1,30 @@
+package com.example.server.reactive.Controller;
+
+import com.example.server.reactive.Proxy.JobClient;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.example.server.reactive.Proxy.DownstreamResponses.relay;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/api/compatibility")
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveCompatibilityController {
+
+    private final JobClient jobClient;
+
+    public ReactiveCompatibilityController(JobClient jobClient) {
+        this.jobClient = jobClient;
+    }
+
+    @GetMapping("/{reviewId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getCompatibilityReview(@PathVariable("reviewId") String reviewId) {
+        return relay(jobClient.getCompatibilityReview(reviewId));
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.server.reactive.Controller;
+
+import com.example.server.reactive.Proxy.CourseClient;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.security.models.AuthPrincipal;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.example.server.reactive.Proxy.DownstreamResponses.relay;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/api/course")
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveCourseController {
+
+    private final CourseClient courseClient;
+
+    public ReactiveCourseController(CourseClient courseClient) {
+        this.courseClient = courseClient;
+    }
+
+    @GetMapping("/suggestions")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getCourseSuggestions(@AuthenticationPrincipal AuthPrincipal principal) {
+        return relay(courseClient.getCourseSuggestions(principal.getEmail()));
+    }
+
+    @PostMapping("/save")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> saveCourse(@RequestBody Flux<DataBuffer> course,
+                                                             @AuthenticationPrincipal AuthPrincipal principal) {
+        return relay(courseClient.saveCourse(principal.getId().toString(), course));
+    }
+
+    @GetMapping("/saved/all")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getSavedCourses(@AuthenticationPrincipal AuthPrincipal principal) {
+        return relay(courseClient.getSavedCourses(principal.getId().toString()));
+    }
+
+    @DeleteMapping("/delete/{videoId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> deleteSavedCourse(@PathVariable("videoId") String videoId,
+                                                                    @AuthenticationPrincipal AuthPrincipal principal) {
+        return relay(courseClient.deleteSavedCourse(principal.getId().toString(), videoId));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.server.reactive.Controller;
+
+import com.example.server.exception.CustomExceptions.UserNotFoundException;
+import com.example.server.reactive.Proxy.JobClient;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.reactive.repository.ReactiveUserRepository;
+import com.example.server.resume.exception.ResumeNotFoundException;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.userEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.example.server.reactive.Proxy.DownstreamResponses.relay;
+
+/**
+ * Read endpoints of {@link com.example.server.job.Controller.JobController} and the job routes
+ * of the gateway engine, served without blocking.
+ */
+@CrossOrigin
+@RestController
+@RequestMapping("/api/job")
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveJobController {
+
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+
+    private final JobClient              jobClient;
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveJobController(JobClient jobClient, ReactiveUserRepository userRepository) {
+        this.jobClient      = jobClient;
+        this.userRepository = userRepository;
+    }
+
+    @GetMapping("/active-jobs")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllActiveJobs() {
+        return relay(jobClient.getAllActiveJobs());
+    }
+
+    @GetMapping("/{jobId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getJobById(@PathVariable("jobId") String jobId) {
+        return relay(jobClient.getJobById(jobId));
+    }
+
+    @GetMapping("/{jobId}/questions")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getInterviewQuestionsOfAJob(@PathVariable("jobId") String jobId) {
+        return relay(jobClient.getInterviewQuestionsOfAJob(jobId));
+    }
+
+    @GetMapping("/organization/{OrganizationId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllJobsOfAnOrganization(@PathVariable("OrganizationId") String OrganizationId,
+                                                                             @AuthenticationPrincipal AuthPrincipal principal) {
+        if (!principal.isHasAnyOrganization()) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(
+                            "User does not have any organization".getBytes(StandardCharsets.UTF_8)))));
+        }
+        return relay(jobClient.getAllJobsOfAnOrganization(OrganizationId));
+    }
+
+    @GetMapping("/user/applied")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllJobsAppliedByUser(@AuthenticationPrincipal AuthPrincipal principal) {
+        return loadUser(principal)
+                .flatMap(user -> relay(jobClient.getAllJobsAppliedByUser(user.getAppliedJobs())));
+    }
+
+    @GetMapping("/user/saved")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllJobsSavedByUser(@AuthenticationPrincipal AuthPrincipal principal) {
+        return loadUser(principal)
+                .flatMap(user -> user.getSavedJobs().isEmpty()
+                        ? Mono.just(ResponseEntity.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(EMPTY_ARRAY))))
+                        : relay(jobClient.getAllJobsSavedByUser(user.getSavedJobs())));
+    }
+
+    @GetMapping("/suggestions")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getJobSuggestionsForCandidate(@AuthenticationPrincipal AuthPrincipal principal) {
+        if (!principal.isHasResume()) {
+            return Mono.error(new ResumeNotFoundException("Complete profile by uploading resume to get suggestions"));
+        }
+        return relay(jobClient.getJobSuggestionsForCandidate(principal.getId().toString()));
+    }
+
+    private Mono<userEntity> loadUser(AuthPrincipal principal) {
+        return userRepository.findByEmail(principal.getEmail())
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("Email not found")));
+    }
+}
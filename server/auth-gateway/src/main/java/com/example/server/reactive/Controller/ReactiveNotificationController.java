@@ -0,0 +1,47 @@
+package com.example.server.reactive.Controller;
+
+import com.example.server.reactive.Proxy.NotificationClient;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.security.models.AuthPrincipal;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.example.server.reactive.Proxy.DownstreamResponses.relay;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/api/notifications")
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveNotificationController {
+
+    private final NotificationClient notificationClient;
+
+    public ReactiveNotificationController(NotificationClient notificationClient) {
+        this.notificationClient = notificationClient;
+    }
+
+    @GetMapping("/")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getNotificationsOfUser(@AuthenticationPrincipal AuthPrincipal principal) {
+        return relay(notificationClient.getNotificationsOfUser(principal.getId().toString()));
+    }
+
+    @PatchMapping("/{notificationId}/read")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> markAsRead(@PathVariable("notificationId") String notificationId) {
+        return relay(notificationClient.markAsRead(notificationId));
+    }
+
+    @PatchMapping("/read-all")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> markAllAsRead(@AuthenticationPrincipal AuthPrincipal principal) {
+        return relay(notificationClient.markAllAsRead(principal.getId().toString()));
+    }
+
+    @DeleteMapping("/{notificationId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> deleteNotification(@PathVariable("notificationId") String notificationId) {
+        return relay(notificationClient.deleteNotification(notificationId));
+    }
+}
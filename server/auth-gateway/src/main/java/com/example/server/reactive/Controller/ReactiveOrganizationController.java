@@ -0,0 +1,51 @@
+package com.example.server.reactive.Controller;
+
+import com.example.server.UserProfile.exception.OrganizationNotFoundException;
+import com.example.server.UserProfile.models.OrganizationEntity;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.reactive.repository.ReactiveOrganizationRepository;
+import com.example.server.security.models.AuthPrincipal;
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Read endpoints of {@link com.example.server.UserProfile.Controller.OrganizationController},
+ * served from the reactive MongoDB driver.
+ */
+@CrossOrigin
+@RestController
+@RequestMapping("/api/organization")
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveOrganizationController {
+
+    private final ReactiveOrganizationRepository organizationRepository;
+
+    public ReactiveOrganizationController(ReactiveOrganizationRepository organizationRepository) {
+        this.organizationRepository = organizationRepository;
+    }
+
+    @GetMapping("/{OrganizationId}")
+    public Mono<OrganizationEntity> getOrganizationByOrganizationId(@PathVariable String OrganizationId) {
+        Mono<OrganizationEntity> organization = ObjectId.isValid(OrganizationId)
+                ? organizationRepository.findById(new ObjectId(OrganizationId))
+                : Mono.empty();
+
+        return organization.switchIfEmpty(Mono.error(() ->
+                new OrganizationNotFoundException("Organization not found with ID: " + OrganizationId)));
+    }
+
+    @GetMapping("/all")
+    public Mono<Map<String, Object>> getAllOrganizationsOfAnUser(@AuthenticationPrincipal AuthPrincipal principal) {
+        return organizationRepository.findAllByOwnerEmail(principal.getEmail())
+                .collectList()
+                .map(organizations -> Map.of(
+                        "success", true,
+                        "data", organizations,
+                        "count", organizations.size()));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.server.reactive.Controller;
+
+import com.example.server.reactive.Proxy.ResumeClient;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static com.example.server.reactive.Proxy.DownstreamResponses.relay;
+
+/**
+ * Streaming search endpoints of {@link com.example.server.resume.Controller.ResumeController}.
+ * Upload, extraction and save change the user document and stay on the servlet stack.
+ */
+@CrossOrigin
+@RestController
+@RequestMapping("/api/resume")
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveResumeController {
+
+    private final ResumeClient resumeClient;
+
+    public ReactiveResumeController(ResumeClient resumeClient) {
+        this.resumeClient = resumeClient;
+    }
+
+    @GetMapping("/{jobId}/shortlist/{k}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getTopKResumesForJob(@PathVariable("jobId") String jobId,
+                                                                       @PathVariable("k") int k) {
+        return relay(resumeClient.getTopKResumesForJob(jobId, k));
+    }
+
+    @PostMapping("/shortlist/{k}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> globalResumeSearch(@PathVariable("k") int k,
+                                                                     @RequestBody Flux<DataBuffer> globalSearchRequest) {
+        return relay(resumeClient.globalResumeSearch(k, globalSearchRequest));
+    }
+}
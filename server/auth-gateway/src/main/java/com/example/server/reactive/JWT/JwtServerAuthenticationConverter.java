@@ -0,0 +1,36 @@
+package com.example.server.reactive.JWT;
+
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads the raw token from a Bearer header or, failing that, the "token" cookie; same rule as
+ * {@link com.example.server.security.JWT.JwtService#resolveToken}. Requests without one
+ * continue unauthenticated.
+ */
+public class JwtServerAuthenticationConverter implements ServerAuthenticationConverter {
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        String bearerToken = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return Mono.just(unauthenticated(bearerToken.substring(7)));
+        }
+
+        HttpCookie cookie = exchange.getRequest().getCookies().getFirst("token");
+        if (cookie != null && StringUtils.hasText(cookie.getValue())) {
+            return Mono.just(unauthenticated(cookie.getValue()));
+        }
+        return Mono.empty();
+    }
+
+    private static Authentication unauthenticated(String token) {
+        return new PreAuthenticatedAuthenticationToken(token, token);
+    }
+}
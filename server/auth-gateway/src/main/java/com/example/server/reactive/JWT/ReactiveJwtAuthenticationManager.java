@@ -0,0 +1,71 @@
+package com.example.server.reactive.JWT;
+
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.reactive.repository.ReactiveUserRepository;
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.JWT.JwtPrincipal;
+import com.example.server.security.JWT.JwtService;
+import com.example.server.security.models.AuthPrincipal;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * Authenticates the raw token put into the exchange by {@link JwtServerAuthenticationConverter}.
+ * Mirrors {@link com.example.server.security.JWT.JwtAuthenticationFilter}: verify, reject
+ * revoked tokens, then build the principal from the claims (stateless mode) or from the
+ * projected user document.
+ */
+@Component
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final ReactiveJwtVerifier            verifier;
+    private final ReactiveTokenRevocationService revocationService;
+    private final ReactiveUserRepository         userRepository;
+    private final JwtConfig                      jwtConfig;
+
+    public ReactiveJwtAuthenticationManager(ReactiveJwtVerifier            verifier,
+                                            ReactiveTokenRevocationService revocationService,
+                                            ReactiveUserRepository         userRepository,
+                                            JwtConfig                      jwtConfig) {
+
+        this.verifier          = verifier;
+        this.revocationService = revocationService;
+        this.userRepository    = userRepository;
+        this.jwtConfig         = jwtConfig;
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String token = (String) authentication.getCredentials();
+
+        return verifier.verify(token)
+                .flatMap(jwtPrincipal -> revocationService.isRevoked(jwtPrincipal)
+                        .flatMap(revoked -> revoked
+                                ? Mono.error(new AuthenticationCredentialsNotFoundException("JWT has been revoked"))
+                                : loadPrincipal(jwtPrincipal)))
+                .map(principal -> UsernamePasswordAuthenticationToken.authenticated(
+                        principal,
+                        null,
+                        principal.getAuthorities()));
+    }
+
+    private Mono<AuthPrincipal> loadPrincipal(JwtPrincipal jwtPrincipal) {
+        if (jwtConfig.isStatelessPrincipal()) {
+            Optional<AuthPrincipal> fromClaims = JwtService.toAuthPrincipal(jwtPrincipal);
+            if (fromClaims.isPresent()) {
+                return Mono.just(fromClaims.get());
+            }
+        }
+        return userRepository.findPrincipalByEmail(jwtPrincipal.subject())
+                .switchIfEmpty(Mono.error(() -> new UsernameNotFoundException("Email not found")));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.server.reactive.JWT;
+
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.reactive.repository.ReactiveSigningKeyRepository;
+import com.example.server.security.JWT.JwtPrincipal;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactive counterpart of {@link com.example.server.security.JWT.JwtService#verify(String)}.
+ *
+ * jjwt resolves keys synchronously, so an RS256 key that is not cached yet is read from the
+ * published signing keys before the token is parsed. Published keys are immutable and
+ * cached for the life of the process. Revocation is checked by {@link ReactiveTokenRevocationService}.
+ */
+@Component
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveJwtVerifier {
+
+    private final SecretKey                    key;
+    private final ReactiveSigningKeyRepository signingKeyRepository;
+    private final ObjectMapper                 objectMapper;
+    private final JwtParser                    parser;
+    private final Map<String, Key>             publicKeys = new ConcurrentHashMap<>();
+
+    public ReactiveJwtVerifier(SecretKey                    key,
+                               ReactiveSigningKeyRepository signingKeyRepository,
+                               ObjectMapper                 objectMapper) {
+
+        this.key                  = key;
+        this.signingKeyRepository = signingKeyRepository;
+        this.objectMapper         = objectMapper;
+        this.parser               = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyResolver())
+                .build();
+    }
+
+    /**
+     * Verifies signature and expiry. Errors are mapped exactly like the servlet verifier.
+     */
+    public Mono<JwtPrincipal> verify(String token) {
+        return loadPublicKey(token)
+                .then(Mono.fromCallable(() -> JwtPrincipal.from(parser.parseClaimsJws(token).getBody())))
+                .onErrorMap(ReactiveJwtVerifier::toAuthenticationException);
+    }
+
+    private Mono<Void> loadPublicKey(String token) {
+        String kid;
+        try {
+            kid = keyId(token);
+        } catch (IOException | IllegalArgumentException e) {
+            return Mono.error(new MalformedJwtException("Invalid JWT header", e));
+        }
+        if (kid == null || publicKeys.containsKey(kid)) {
+            return Mono.empty();
+        }
+        return signingKeyRepository.findById(kid)
+                .doOnNext(signingKey -> publicKeys.putIfAbsent(kid, decode(signingKey.getPublicKey())))
+                .then();
+    }
+
+    private String keyId(String token) throws IOException {
+        int end = token.indexOf('.');
+        if (end <= 0) {
+            throw new IllegalArgumentException("JWT has no header");
+        }
+        JsonNode header = objectMapper.readTree(Base64.getUrlDecoder().decode(token.substring(0, end)));
+        JsonNode kid    = header.get(JwsHeader.KEY_ID);
+        return kid != null && kid.isTextual() ? kid.asText() : null;
+    }
+
+    private static Throwable toAuthenticationException(Throwable e) {
+        if (e instanceof ExpiredJwtException) {
+            return new AuthenticationCredentialsNotFoundException("JWT has expired", e);
+        } else if (e instanceof SignatureException) {
+            return new AuthenticationCredentialsNotFoundException("Invalid JWT signature", e);
+        } else if (e instanceof MalformedJwtException) {
+            return new AuthenticationCredentialsNotFoundException("Invalid JWT token", e);
+        } else if (e instanceof UnsupportedJwtException) {
+            return new AuthenticationCredentialsNotFoundException("Unsupported JWT token", e);
+        } else if (e instanceof IllegalArgumentException) {
+            return new AuthenticationCredentialsNotFoundException("JWT claims string is empty", e);
+        }
+        return e;
+    }
+
+    private static Key decode(String encoded) {
+        try {
+            return KeyFactory.getInstance("RSA")
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalStateException("Invalid published signing key", e);
+        }
+    }
+
+    /**
+     * Same rule as the servlet resolver: the key type follows the header algorithm.
+     */
+    private class KeyResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+            if (algorithm.isHmac()) {
+                return key;
+            }
+            if (algorithm == SignatureAlgorithm.RS256 && header.getKeyId() != null) {
+                Key publicKey = publicKeys.get(header.getKeyId());
+                if (publicKey != null) {
+                    return publicKey;
+                }
+            }
+            throw new UnsupportedJwtException("Unknown signing key: " + header.getKeyId());
+        }
+    }
+}
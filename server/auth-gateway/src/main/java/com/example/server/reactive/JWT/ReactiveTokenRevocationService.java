@@ -0,0 +1,148 @@
+package com.example.server.reactive.JWT;
+
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.reactive.repository.ReactiveRevokedTokenRepository;
+import com.example.server.security.JWT.JwtPrincipal;
+import com.example.server.security.JWT.RevocationBloomFilter;
+import com.example.server.security.models.RevokedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Reactive counterpart of the read side of {@link com.example.server.security.JWT.TokenRevocationService}.
+ *
+ * Keeps the same in-memory view of the "revokedTokens" collection: token ids in a
+ * {@link RevocationBloomFilter}, subject-wide revocations in a map. The negative path is
+ * memory-only; MongoDB is queried only to confirm a Bloom hit. Revocations are written by the
+ * servlet stack, so this node sees them after at most one sync interval, like any other node.
+ *
+ * Until the first rebuild has completed, every check falls back to the MongoDB lookups.
+ */
+@Component
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveTokenRevocationService {
+
+    private static final Logger logger = Logger.getLogger(ReactiveTokenRevocationService.class.getName());
+
+    private final ReactiveRevokedTokenRepository revokedTokenRepository;
+    private final long                           expectedEntries;
+    private final double                         falsePositiveRate;
+    private final Duration                       syncOverlap;
+
+    private final Map<String, Instant>     revokedSubjects = new ConcurrentHashMap<>();
+    // null until the first rebuild, which also marks revokedSubjects as complete
+    private volatile RevocationBloomFilter revokedIds;
+    private volatile Instant               lastSync = Instant.EPOCH;
+
+    public ReactiveTokenRevocationService(ReactiveRevokedTokenRepository revokedTokenRepository,
+                                          @Value("${jwt.revocation.expected-entries:100000}") long     expectedEntries,
+                                          @Value("${jwt.revocation.false-positive-rate:0.01}")  double   falsePositiveRate,
+                                          @Value("${jwt.revocation.sync-overlap:PT5S}")         Duration syncOverlap) {
+
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries        = expectedEntries;
+        this.falsePositiveRate      = falsePositiveRate;
+        this.syncOverlap            = syncOverlap;
+    }
+
+    /**
+     * Called after signature verification.
+     */
+    public Mono<Boolean> isRevoked(JwtPrincipal principal) {
+        RevocationBloomFilter ids = revokedIds;
+        if (ids == null) {
+            return lookUp(principal);
+        }
+
+        Instant revokedBefore = principal.subject() == null ? null : revokedSubjects.get(principal.subject());
+        if (revokedBefore != null && principal.issuedAt() != null && !principal.issuedAt().isAfter(revokedBefore)) {
+            return Mono.just(true);
+        }
+
+        String jti = principal.tokenId();
+        if (jti == null || !ids.mightContain(jti)) {
+            return Mono.just(false);
+        }
+        return revokedTokenRepository.existsByJti(jti);
+    }
+
+    /**
+     * Pulls entries written since the previous sync. Creation times come from each writer's
+     * clock, hence the overlap window.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT10S}",
+               initialDelayString = "${jwt.revocation.sync-interval:PT10S}")
+    public Mono<Void> sync() {
+        if (revokedIds == null) {
+            // Nothing to add to yet; the pending rebuild reads everything
+            return Mono.empty();
+        }
+        Instant started = Instant.now();
+        return revokedTokenRepository.findByCreatedAtGreaterThanEqual(lastSync.minus(syncOverlap))
+                .doOnNext(this::apply)
+                .then(Mono.fromRunnable(() -> lastSync = started));
+    }
+
+    /**
+     * Bloom filters cannot forget, so the filter is periodically rebuilt from the unexpired
+     * entries and swapped in. The first run happens at startup.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT1H}")
+    public Mono<Void> rebuild() {
+        Instant started = Instant.now();
+        RevocationBloomFilter fresh    = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+        Map<String, Instant>  subjects = new ConcurrentHashMap<>();
+
+        return revokedTokenRepository.findByExpiresAtAfter(started)
+                .doOnNext(entry -> {
+                    if (entry.getJti() != null) {
+                        fresh.put(entry.getJti());
+                    } else if (entry.getSubject() != null && entry.getRevokedBefore() != null) {
+                        subjects.merge(entry.getSubject(), entry.getRevokedBefore(), ReactiveTokenRevocationService::latest);
+                    }
+                })
+                .then(Mono.fromRunnable(() -> {
+                    revokedSubjects.keySet().retainAll(subjects.keySet());
+                    subjects.forEach((subject, before) -> revokedSubjects.merge(subject, before, ReactiveTokenRevocationService::latest));
+                    revokedIds = fresh;
+                    lastSync   = started;
+                    logger.info("Token revocation list rebuilt");
+                }));
+    }
+
+    private void apply(RevokedToken entry) {
+        if (entry.getJti() != null) {
+            revokedIds.put(entry.getJti());
+        } else if (entry.getSubject() != null && entry.getRevokedBefore() != null) {
+            revokedSubjects.merge(entry.getSubject(), entry.getRevokedBefore(), ReactiveTokenRevocationService::latest);
+        }
+    }
+
+    private Mono<Boolean> lookUp(JwtPrincipal principal) {
+        Mono<Boolean> subjectRevoked = principal.subject() == null || principal.issuedAt() == null
+                ? Mono.just(false)
+                : revokedTokenRepository.existsBySubjectAndRevokedBeforeGreaterThanEqual(
+                        principal.subject(), principal.issuedAt());
+
+        String jti = principal.tokenId();
+        if (jti == null) {
+            return subjectRevoked;
+        }
+        return subjectRevoked.flatMap(revoked -> revoked
+                ? Mono.just(true)
+                : revokedTokenRepository.existsByJti(jti));
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.server.reactive.Proxy;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.DeleteExchange;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Course endpoints of the resume service (the "course.*" routes of the gateway engine).
+ */
+@HttpExchange(url = "/api/course", accept = MediaType.APPLICATION_JSON_VALUE)
+public interface CourseClient {
+
+    @GetExchange("/suggestions")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getCourseSuggestions(@RequestParam("candidateEmail") String candidateEmail);
+
+    @PostExchange(value = "/candidate/{userId}/save", contentType = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<Flux<DataBuffer>>> saveCourse(@PathVariable("userId") String userId,
+                                                      @RequestBody Flux<DataBuffer> course);
+
+    @GetExchange("/candidate/{userId}/saved/all")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getSavedCourses(@PathVariable("userId") String userId);
+
+    @DeleteExchange("/candidate/{userId}/delete/{videoId}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> deleteSavedCourse(@PathVariable("userId") String userId,
+                                                             @PathVariable("videoId") String videoId);
+}
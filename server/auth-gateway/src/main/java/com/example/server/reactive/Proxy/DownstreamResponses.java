@@ -0,0 +1,34 @@
+package com.example.server.reactive.Proxy;
+
+import com.example.server.gateway.ProxyClient;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Turns a downstream response into the gateway response: status and body as received, and
+ * only the headers the servlet engine forwards too. The body is never aggregated, so Reactor
+ * Netty only reads from the downstream connection as fast as the client consumes.
+ */
+public final class DownstreamResponses {
+
+    private DownstreamResponses() {
+    }
+
+    public static Mono<ResponseEntity<Flux<DataBuffer>>> relay(Mono<ResponseEntity<Flux<DataBuffer>>> downstream) {
+        return downstream.map(response -> {
+            HttpHeaders headers = new HttpHeaders();
+            for (String name : ProxyClient.RESPONSE_HEADERS) {
+                List<String> values = response.getHeaders().get(name);
+                if (values != null) {
+                    headers.put(name, values);
+                }
+            }
+            return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.server.reactive.Proxy;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link com.example.server.job.Proxy.JobProxy} plus the job service
+ * routes of the gateway engine. Bodies stay a stream of buffers so the client's demand is what
+ * pulls bytes from the job service.
+ */
+@HttpExchange(accept = MediaType.APPLICATION_JSON_VALUE)
+public interface JobClient {
+
+    @GetExchange("/api/jobs/")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getAllActiveJobs();
+
+    @GetExchange("/api/jobs/{jobId}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getJobById(@PathVariable("jobId") String jobId);
+
+    @GetExchange("/api/jobs/{jobId}/interview-questions")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getInterviewQuestionsOfAJob(@PathVariable("jobId") String jobId);
+
+    @GetExchange("/api/jobs/organization/{organizationId}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getAllJobsOfAnOrganization(@PathVariable("organizationId") String organizationId);
+
+    @PostExchange("/api/jobs/user/applied")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getAllJobsAppliedByUser(@RequestBody List<String> jobIds);
+
+    @PostExchange("/api/jobs/user/saved")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getAllJobsSavedByUser(@RequestBody List<String> jobIds);
+
+    @GetExchange("/api/jobs/candidates/{candidateId}/suggestions")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getJobSuggestionsForCandidate(@PathVariable("candidateId") String candidateId);
+
+    @GetExchange("/api/compatibility/{reviewId}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getCompatibilityReview(@PathVariable("reviewId") String reviewId);
+}
@@ -0,0 +1,31 @@
+package com.example.server.reactive.Proxy;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.service.annotation.DeleteExchange;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PutExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Notification service endpoints (the "notification.*" routes of the gateway engine).
+ */
+@HttpExchange(url = "/api/notifications", accept = MediaType.APPLICATION_JSON_VALUE)
+public interface NotificationClient {
+
+    @GetExchange("/{userId}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getNotificationsOfUser(@PathVariable("userId") String userId);
+
+    @PutExchange("/{notificationId}/read")
+    Mono<ResponseEntity<Flux<DataBuffer>>> markAsRead(@PathVariable("notificationId") String notificationId);
+
+    @PutExchange("/{userId}/read-all")
+    Mono<ResponseEntity<Flux<DataBuffer>>> markAllAsRead(@PathVariable("userId") String userId);
+
+    @DeleteExchange("/{notificationId}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> deleteNotification(@PathVariable("notificationId") String notificationId);
+}
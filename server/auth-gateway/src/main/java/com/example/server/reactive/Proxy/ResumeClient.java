@@ -0,0 +1,30 @@
+package com.example.server.reactive.Proxy;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of the streaming methods of {@link com.example.server.resume.Proxy.ResumeJsonProxy}.
+ */
+@HttpExchange(url = "/api/resume", accept = MediaType.APPLICATION_JSON_VALUE)
+public interface ResumeClient {
+
+    @GetExchange("/{jobId}/shortlist/{k}")
+    Mono<ResponseEntity<Flux<DataBuffer>>> getTopKResumesForJob(@PathVariable("jobId") String jobId,
+                                                                @PathVariable("k") int k);
+
+    /**
+     * The search request is streamed through as the client sent it.
+     */
+    @PostExchange(value = "/shortlist/{k}", contentType = MediaType.APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<Flux<DataBuffer>>> globalResumeSearch(@PathVariable("k") int k,
+                                                              @RequestBody Flux<DataBuffer> globalSearchRequest);
+}
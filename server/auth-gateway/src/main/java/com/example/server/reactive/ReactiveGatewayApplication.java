@@ -0,0 +1,45 @@
+package com.example.server.reactive;
+
+import com.example.server.security.Config.JwtConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.reactive.ReactiveUserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Non-blocking variant of the gateway: WebFlux on Reactor Netty, WebClient towards the
+ * downstream services and the reactive MongoDB driver, so no request ever holds a thread
+ * while it waits on I/O.
+ *
+ * It is a separate entry point meant to be deployed next to {@link com.example.server.ServerApplication}
+ * with the same configuration, so both stacks can be measured under the same load. Only this
+ * package is scanned and every bean in it is behind the "reactive" profile, which keeps the
+ * servlet application from ever loading them. It serves the read and passthrough endpoints;
+ * logins, uploads and user-document mutations stay on the servlet stack.
+ */
+@Profile(ReactiveGatewayApplication.PROFILE)
+@SpringBootApplication(exclude = {
+        MongoAutoConfiguration.class,
+        MongoDataAutoConfiguration.class,
+        MongoRepositoriesAutoConfiguration.class,
+        ReactiveUserDetailsServiceAutoConfiguration.class
+})
+@Import(JwtConfig.class)
+@EnableScheduling
+public class ReactiveGatewayApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveGatewayApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles(PROFILE);
+        application.run(args);
+    }
+}
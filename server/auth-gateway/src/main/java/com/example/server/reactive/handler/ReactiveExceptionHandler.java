@@ -0,0 +1,78 @@
+package com.example.server.reactive.handler;
+
+import com.example.server.UserProfile.exception.OrganizationNotFoundException;
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import com.example.server.exception.CustomExceptions.UserNotFoundException;
+import com.example.server.exception.handler.ExceptionResponse;
+import com.example.server.reactive.ReactiveGatewayApplication;
+import com.example.server.resume.exception.ResumeNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The subset of {@link com.example.server.exception.handler.GlobalExceptionHandler} that the
+ * reactive endpoints can raise, with the same {@link ExceptionResponse} body.
+ */
+@RestControllerAdvice
+@Profile(ReactiveGatewayApplication.PROFILE)
+public class ReactiveExceptionHandler {
+
+    private static final Logger logger = Logger.getLogger(ReactiveExceptionHandler.class.getName());
+
+    private ResponseEntity<ExceptionResponse> buildResponse(HttpStatus status, String message, ServerHttpRequest request) {
+        return new ResponseEntity<>(
+                new ExceptionResponse(status.value(), status.getReasonPhrase(), message, request.getPath().value()),
+                status
+        );
+    }
+
+    // Downstream connection failures, as mapped by the servlet gateway engine
+    @ExceptionHandler(WebClientRequestException.class)
+    public ResponseEntity<ExceptionResponse> handleDownstreamUnreachable(WebClientRequestException ex, ServerHttpRequest req) {
+        logger.log(Level.WARNING, "Downstream request failed: " + ex.getUri(), ex);
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, "Service temporarily unavailable", req);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailable(ServiceUnavailableException ex, ServerHttpRequest req) {
+        return buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(ResumeNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleResumeNotFound(ResumeNotFoundException ex, ServerHttpRequest req) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleUserNotFound(UserNotFoundException ex, ServerHttpRequest req) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), req);
+    }
+
+    @ExceptionHandler(OrganizationNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> handleOrganizationNotFound(OrganizationNotFoundException ex, ServerHttpRequest req) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage(), req);
+    }
+
+    // Routing and binding errors keep their own status
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ExceptionResponse> handleResponseStatus(ResponseStatusException ex, ServerHttpRequest req) {
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        return buildResponse(status != null ? status : HttpStatus.INTERNAL_SERVER_ERROR, ex.getReason(), req);
+    }
+
+    //Fallback - catches anything not handled above
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ExceptionResponse> handleGeneral(Exception e, ServerHttpRequest req) {
+        logger.log(Level.SEVERE, "Unhandled error", e);
+        return buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error occurred", req);
+    }
+}
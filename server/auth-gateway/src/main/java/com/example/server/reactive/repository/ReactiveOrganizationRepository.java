@@ -0,0 +1,16 @@
+package com.example.server.reactive.repository;
+
+import com.example.server.UserProfile.models.OrganizationEntity;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive counterpart of {@link com.example.server.UserProfile.repository.OrganizationRepository}.
+ */
+@Repository
+public interface ReactiveOrganizationRepository extends ReactiveMongoRepository<OrganizationEntity, ObjectId> {
+
+    Flux<OrganizationEntity> findAllByOwnerEmail(String email);
+}
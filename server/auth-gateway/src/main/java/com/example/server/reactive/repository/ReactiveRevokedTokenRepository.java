@@ -0,0 +1,25 @@
+package com.example.server.reactive.repository;
+
+import com.example.server.security.models.RevokedToken;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface ReactiveRevokedTokenRepository extends ReactiveMongoRepository<RevokedToken, ObjectId> {
+
+    Mono<Boolean> existsByJti(String jti);
+
+    /**
+     * True when every token of the subject issued at or before issuedAt has been revoked.
+     */
+    Mono<Boolean> existsBySubjectAndRevokedBeforeGreaterThanEqual(String subject, Instant issuedAt);
+
+    Flux<RevokedToken> findByCreatedAtGreaterThanEqual(Instant createdAt);
+
+    Flux<RevokedToken> findByExpiresAtAfter(Instant now);
+}
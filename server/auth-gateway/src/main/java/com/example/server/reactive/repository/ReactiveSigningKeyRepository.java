@@ -0,0 +1,9 @@
+package com.example.server.reactive.repository;
+
+import com.example.server.security.models.SigningKey;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveSigningKeyRepository extends ReactiveMongoRepository<SigningKey, String> {
+}
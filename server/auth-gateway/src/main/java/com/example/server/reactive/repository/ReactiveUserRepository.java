@@ -0,0 +1,21 @@
+package com.example.server.reactive.repository;
+
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.userEntity;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link com.example.server.security.repository.UserRepository}.
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<userEntity, ObjectId> {
+
+    Mono<userEntity> findByEmail(String email);
+
+    @Query(value = "{ 'email': ?0 }", fields = AuthPrincipal.PROJECTION)
+    Mono<AuthPrincipal> findPrincipalByEmail(String email);
+}
@@ -1,5 +1,7 @@
 package com.example.server.resume.Config;
 
+import com.example.server.gateway.GatewayRoutes;
+import com.example.server.gateway.HttpClientPools;
 import feign.Logger;
 import feign.form.spring.SpringFormEncoder;
 import feign.codec.Encoder;
@@ -15,9 +17,12 @@ public class FeignMultipartSupportConfig {
         return new SpringFormEncoder();
     }
 
+    /**
+     * Shares the resume pool's connections but keeps the long timeouts resume extraction needs.
+     */
     @Bean
-    public OkHttpClient okHttpClient() {
-        return new OkHttpClient.Builder()
+    public OkHttpClient okHttpClient(HttpClientPools httpClientPools) {
+        return httpClientPools.client(GatewayRoutes.RESUME).newBuilder()
                 .connectTimeout (10, TimeUnit.MINUTES)
                 .readTimeout    (10, TimeUnit.MINUTES)
                 .writeTimeout   (10, TimeUnit.MINUTES)
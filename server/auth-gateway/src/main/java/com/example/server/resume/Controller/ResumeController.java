@@ -1,18 +1,22 @@
 package com.example.server.resume.Controller;
 
 import com.example.server.UserProfile.Service.UserService;
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import com.example.server.gateway.StreamingResponseWriter;
 import com.example.server.resume.DTO.*;
 import com.example.server.resume.Proxy.ResumeJsonProxy;
 import com.example.server.resume.Proxy.ResumeProxy;
 import com.example.server.resume.exception.ResumeNotFoundException;
+import com.example.server.security.Config.CurrentUser;
 import com.example.server.security.models.userEntity;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.*;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.Collections;
 import java.util.logging.Logger;
@@ -25,27 +29,27 @@ public class ResumeController {
     private static final Logger      logger = Logger.getLogger(ResumeController.class.getName());
     private final ResumeProxy        resumeProxy;
     private final ResumeJsonProxy    resumeJsonProxy;
-    private final UserDetailsService userDetailsService;
     private final UserService        userService;
+    private final StreamingResponseWriter streamingResponseWriter;
 
-    public ResumeController(ResumeProxy        resumeProxy,
-                            ResumeJsonProxy    resumeJsonProxy,
-                            UserDetailsService userDetailsService,
-                            UserService        userService) {
+    public ResumeController(ResumeProxy             resumeProxy,
+                            ResumeJsonProxy         resumeJsonProxy,
+                            UserService             userService,
+                            StreamingResponseWriter streamingResponseWriter) {
 
-        this.userDetailsService = userDetailsService;
-        this.resumeJsonProxy    = resumeJsonProxy;
-        this.resumeProxy        = resumeProxy;
-        this.userService        = userService;
+        this.resumeJsonProxy         = resumeJsonProxy;
+        this.resumeProxy             = resumeProxy;
+        this.userService             = userService;
+        this.streamingResponseWriter = streamingResponseWriter;
     }
 
     @PostMapping("/upload")
-    public ResponseEntity<?> uploadAndForwardResume(@RequestParam("file") MultipartFile file, Principal principal) {
+    public ResponseEntity<?> uploadAndForwardResume(@RequestParam("file") MultipartFile file,
+                                                    @CurrentUser userEntity user,
+                                                    Principal principal) {
 
         logger.info("Received file upload request from user: " + principal.getName());
 
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
-
         try {
             String response = resumeProxy.forwardResumeToResumeService(
                     file,
@@ -71,6 +75,8 @@ public class ResumeController {
 
             return ResponseEntity.status(HttpStatus.OK)
                     .body(response);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Failed to forward: " + e.getMessage());
@@ -78,8 +84,7 @@ public class ResumeController {
     }
 
     @GetMapping("/extract")
-    public ResponseEntity<?> extractDetailsFromResume(Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public ResponseEntity<?> extractDetailsFromResume(@CurrentUser userEntity user, Principal principal) {
 
         if (!user.isHasResume()) {
             throw new ResumeNotFoundException("No resume found for user: " + principal.getName());
@@ -98,8 +103,9 @@ public class ResumeController {
     }
 
     @PostMapping("/save")
-    public ResponseEntity<String> saveResume(@RequestBody ResumeDataRequest resumeData, Principal principal) {
-        userEntity user = (userEntity) userDetailsService.loadUserByUsername(principal.getName());
+    public ResponseEntity<String> saveResume(@RequestBody ResumeDataRequest resumeData,
+                                             @CurrentUser userEntity user,
+                                             Principal principal) {
         logger.info("Received resume request with resume data: " + resumeData.toString());
         ResponseEntity<String> response = resumeJsonProxy.saveResume(new ResumeForwardWrapper(
                 resumeData,
@@ -125,6 +131,8 @@ public class ResumeController {
 
             return ResponseEntity.status(HttpStatus.OK)
                     .body(response);
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new BasicSearchResponse(false, Collections.emptyList(), "Failed: " + e.getMessage()));
@@ -132,23 +140,21 @@ public class ResumeController {
     }
 
     @GetMapping("/{jobId}/shortlist/{k}")
-    public ResponseEntity<String> getTopKResumesForJob( @PathVariable("jobId") String jobId,
-                                                   @PathVariable("k") int k,
-                                                   Principal              principal) {
+    public void getTopKResumesForJob( @PathVariable("jobId") String jobId,
+                                      @PathVariable("k") int k,
+                                      Principal              principal,
+                                      HttpServletResponse    response) throws IOException {
 
         logger.info("Received request to get top " + k + " resumes for job ID: " + jobId + " from user: " + principal.getName());
 
-        ResponseEntity<String> response = resumeJsonProxy.getTopKResumesForJob(jobId, k);
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
+        streamingResponseWriter.write(resumeJsonProxy.getTopKResumesForJob(jobId, k), response);
     }
 
     @PostMapping("/shortlist/{k}")
-    public ResponseEntity<String> globalResumeSearch(@PathVariable("k") int k,
-                                                     @RequestBody GlobalSearchRequest globalSearchRequest) {
-        ResponseEntity<String> response = resumeJsonProxy.globalResumeSearch(k, globalSearchRequest);
-        return ResponseEntity.status(response.getStatusCode())
-                .body(response.getBody());
+    public void globalResumeSearch(@PathVariable("k") int k,
+                                   @RequestBody GlobalSearchRequest globalSearchRequest,
+                                   HttpServletResponse response) throws IOException {
+        streamingResponseWriter.write(resumeJsonProxy.globalResumeSearch(k, globalSearchRequest), response);
     }
 
 
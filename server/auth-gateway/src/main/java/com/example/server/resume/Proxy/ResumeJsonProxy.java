@@ -3,6 +3,7 @@ package com.example.server.resume.Proxy;
 import com.example.server.resume.DTO.BasicSearchRequest;
 import com.example.server.resume.DTO.GlobalSearchRequest;
 import com.example.server.resume.DTO.ResumeForwardWrapper;
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,8 +25,8 @@ public interface ResumeJsonProxy {
     ResponseEntity<String> getResumeByEmail(@RequestParam String email);
 
     @GetMapping(value = "/{jobId}/shortlist/{k}")
-    ResponseEntity<String> getTopKResumesForJob(@PathVariable("jobId") String jobId, @PathVariable("k") int k);
+    Response getTopKResumesForJob(@PathVariable("jobId") String jobId, @PathVariable("k") int k);
 
     @PostMapping(value = "/shortlist/{k}")
-    ResponseEntity<String> globalResumeSearch(@PathVariable("k") int k, @RequestBody GlobalSearchRequest globalSearchRequest);
+    Response globalResumeSearch(@PathVariable("k") int k, @RequestBody GlobalSearchRequest globalSearchRequest);
 }
\ No newline at end of file
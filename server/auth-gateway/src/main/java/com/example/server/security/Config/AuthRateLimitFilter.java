@@ -0,0 +1,281 @@
+package com.example.server.security.Config;
+
+import com.example.server.exception.handler.ExceptionResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-client throttling for the unauthenticated /api/auth endpoints, which are the only routes
+ * where an anonymous caller can make the gateway do Mongo reads, bcrypt and SMTP sends.
+ *
+ * Every route has two token buckets: one per client IP and one per email in the request body.
+ * The email bucket is what stops OTP guessing on /verify (one address, many codes) and mail
+ * bombing on /resend-verification (one address, many IPs). Buckets live in a size-bounded
+ * Caffeine cache, so memory stays flat no matter how many distinct clients show up; an evicted
+ * bucket simply starts full again. Rejected requests get 429 with Retry-After.
+ *
+ * Behind the load balancer every connection comes from a proxy, so the client IP is taken from
+ * X-Forwarded-For the way Tomcat's RemoteIpValve does it: entries are read right to left and the
+ * first address that is not a trusted proxy is the client. Only proxies can add trusted entries,
+ * so a caller cannot pick its own bucket by sending the header. The default trusted proxies are
+ * the private and loopback ranges, as in RemoteIpValve.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    /**
+     * capacity requests per refill period, per IP and per email.
+     */
+    private record RouteLimit(int ipCapacity, Duration ipPeriod, int emailCapacity, Duration emailPeriod) {
+    }
+
+    private static final Map<String, RouteLimit> LIMITS = Map.of(
+            "/api/auth/login",               new RouteLimit(20, Duration.ofMinutes(1), 5, Duration.ofMinutes(1)),
+            "/api/auth/register",            new RouteLimit(5,  Duration.ofMinutes(1), 3, Duration.ofMinutes(10)),
+            "/api/auth/verify",              new RouteLimit(20, Duration.ofMinutes(1), 5, Duration.ofMinutes(10)),
+            "/api/auth/resend-verification", new RouteLimit(5,  Duration.ofMinutes(1), 3, Duration.ofMinutes(10)));
+
+    private final ObjectMapper              objectMapper;
+    private final MeterRegistry             meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final boolean                   enabled;
+    private final List<IpAddressMatcher>    trustedProxies;
+
+    public AuthRateLimitFilter(ObjectMapper  objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${auth.rate-limit.enabled:true}")          boolean enabled,
+                               @Value("${auth.rate-limit.max-buckets:100000}")   long    maxBuckets,
+                               @Value("${auth.rate-limit.trusted-proxies:10.0.0.0/8,172.16.0.0/12,192.168.0.0/16,"
+                                       + "169.254.0.0/16,127.0.0.0/8,::1/128,fc00::/7}") String trustedProxies) {
+
+        this.objectMapper   = objectMapper;
+        this.meterRegistry  = meterRegistry;
+        this.enabled        = enabled;
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(cidr -> !cidr.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        this.buckets        = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !"POST".equalsIgnoreCase(request.getMethod())
+                || !LIMITS.containsKey(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String     route = path(request);
+        RouteLimit limit = LIMITS.get(route);
+
+        long waitMs = bucket(route + "|ip|" + clientIp(request), limit.ipCapacity(), limit.ipPeriod())
+                .tryConsume();
+        if (waitMs > 0) {
+            reject(route, waitMs, request, response);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            // Auth payloads are a few hundred bytes
+            response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+
+        String email = extractEmail(body);
+        if (email != null) {
+            waitMs = bucket(route + "|email|" + email, limit.emailCapacity(), limit.emailPeriod())
+                    .tryConsume();
+            if (waitMs > 0) {
+                reject(route, waitMs, request, response);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /**
+     * The client address as seen by the first trusted proxy, or the peer address when the
+     * request did not come through one.
+     */
+    String clientIp(HttpServletRequest request) {
+        String client = request.getRemoteAddr();
+        if (!isTrustedProxy(client)) {
+            return client;
+        }
+        Enumeration<String> forwarded = request.getHeaders("X-Forwarded-For");
+        List<String>        hops      = new ArrayList<>();
+        while (forwarded.hasMoreElements()) {
+            for (String hop : forwarded.nextElement().split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            client = hops.get(i);
+            if (!isTrustedProxy(client)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // Not an IP address (a forwarded entry can be anything); never a proxy
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private TokenBucket bucket(String key, int capacity, Duration period) {
+        return buckets.get(key, k -> new TokenBucket(capacity, period.toMillis()));
+    }
+
+    private void reject(String route, long waitMs, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        meterRegistry.counter("auth.rate-limit.rejected", "route", route).increment();
+
+        long retryAfterSeconds = Math.max(1, (waitMs + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ExceptionResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Too many requests, retry in " + retryAfterSeconds + " seconds",
+                request.getRequestURI()));
+    }
+
+    /**
+     * Login, register and verify send {"email": ...}; resend-verification sends the bare address,
+     * either raw or as a JSON string.
+     */
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        String email;
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            email = node == null ? null
+                  : node.isTextual() ? node.asText()
+                  : node.hasNonNull("email") ? node.get("email").asText()
+                  : null;
+        } catch (IOException e) {
+            email = new String(body, StandardCharsets.UTF_8);
+        }
+        return email == null || email.isBlank() ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * Replays the body that was read to find the email, so the controller can still bind it.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
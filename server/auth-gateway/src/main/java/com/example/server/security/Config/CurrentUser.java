@@ -0,0 +1,17 @@
+package com.example.server.security.Config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated {@link com.example.server.security.models.userEntity} into a controller method.
+ * Resolved by {@link CurrentUserArgumentResolver}; the user is loaded at most once per request.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
@@ -0,0 +1,36 @@
+package com.example.server.security.Config;
+
+import com.example.server.security.Service.CurrentUserService;
+import com.example.server.security.models.userEntity;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final CurrentUserService currentUserService;
+
+    public CurrentUserArgumentResolver(CurrentUserService currentUserService) {
+        this.currentUserService = currentUserService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && parameter.getParameterType().isAssignableFrom(userEntity.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+
+        return currentUserService.getCurrentUser(webRequest.getNativeRequest(HttpServletRequest.class));
+    }
+}
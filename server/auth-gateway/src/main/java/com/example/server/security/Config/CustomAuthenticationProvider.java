@@ -1,24 +1,29 @@
 package com.example.server.security.Config;
 
+import com.example.server.security.Service.PasswordHashingService;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     private final UserDetailsService userDetailsService;
-    private final PasswordEncoder passwordEncoder;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final PasswordHashingService passwordHashingService;
     
-    public CustomAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+    public CustomAuthenticationProvider(UserDetailsService userDetailsService,
+                                        UserDetailsPasswordService userDetailsPasswordService,
+                                        PasswordHashingService passwordHashingService) {
         this.userDetailsService = userDetailsService;
-        this.passwordEncoder = passwordEncoder;
+        this.userDetailsPasswordService = userDetailsPasswordService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @Override
@@ -36,7 +41,11 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
          * */
         UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
-        if (passwordEncoder.matches(password, userDetails.getPassword())) {
+        if (passwordHashingService.matches(password, userDetails.getPassword())) {
+            // Bring the stored hash up to the current encoder strength while we hold the raw password
+            if (passwordHashingService.needsRehash(userDetails.getPassword())) {
+                userDetailsPasswordService.updatePassword(userDetails, passwordHashingService.encode(password));
+            }
             return new UsernamePasswordAuthenticationToken(
                     email, // Principal (what's stored in the security context)
                     null, // Don't include the password in the authenticated token
@@ -23,6 +23,36 @@ public class JwtConfig {
     @Value("${jwt.expiration:600}")
     private long temporaryJwtExpiration;
 
+    /**
+     * When enabled, requests carrying a token with user claims are authenticated from the
+     * claims alone; the user document is only read when a controller asks for it.
+     */
+    @Getter
+    @Value("${jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    /**
+     * HS512 signs with the shared secret above. RS256 signs with per-node RSA keys that are
+     * rotated on a schedule and published at /.well-known/jwks.json, so other services can
+     * verify tokens without the secret. Verification accepts RS256 tokens signed by a published
+     * key, and HS512 tokens only while {@link #acceptsHmac()} holds.
+     */
+    @Getter
+    @Value("${jwt.signing.algorithm:HS512}")
+    private String signingAlgorithm;
+
+    /**
+     * Whether HS512 tokens still verify. Unset, this follows the signing algorithm: after a
+     * switch to RS256 anything signed with the shared secret is rejected. Set it to true for
+     * the length of jwt.expiration after the switch so tokens issued before it stay valid.
+     */
+    @Value("${jwt.signing.accept-hmac:}")
+    private Boolean acceptHmac;
+
+    public boolean acceptsHmac() {
+        return acceptHmac != null ? acceptHmac : "HS512".equalsIgnoreCase(signingAlgorithm);
+    }
+
     @Bean
     public SecretKey secretKey() {
         return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
@@ -7,8 +7,10 @@ import com.example.server.security.Service.CustomUserDetailsService;
 import com.example.server.security.Service.OAuth2AuthenticationSuccessHandler;
 import com.example.server.security.Service.OAuth2UserService;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.config.Customizer;
@@ -21,10 +23,12 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.crypto.SecretKey;
 import java.util.Arrays;
 
 @Configuration
@@ -32,6 +36,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
     private final JwtAuthEntryPoint authEntryPoint;
     private final UserDetailsService userDetailsService;
     private final OAuth2UserService oAuth2UserService;
@@ -46,6 +51,7 @@ public class SecurityConfig {
             UserDetailsService                 userDetailsService,
             JwtAuthEntryPoint                  authEntryPoint,
             JwtAuthenticationFilter            jwtAuthenticationFilter,
+            AuthRateLimitFilter                authRateLimitFilter,
             OAuth2UserService                  oAuth2UserService,
             CustomOidcUserService              customOidcUserService,
             OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler) {
@@ -53,6 +59,7 @@ public class SecurityConfig {
         this.passwordEncoder                    = passwordEncoder;
         this.authenticationProvider             = authenticationProvider;
         this.jwtAuthenticationFilter            = jwtAuthenticationFilter;
+        this.authRateLimitFilter                = authRateLimitFilter;
         this.userDetailsService                 = userDetailsService;
         this.authEntryPoint                     = authEntryPoint;
         this.oAuth2UserService                  = oAuth2UserService;
@@ -60,38 +67,99 @@ public class SecurityConfig {
         this.oAuth2AuthenticationSuccessHandler = oAuth2AuthenticationSuccessHandler;
     }
 
+    /**
+     * Public auth endpoints and docs. Nothing here reads a principal, so the JWT filter is
+     * skipped entirely and no session is ever created; only the rate limiter runs.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
 
-        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(authRateLimitFilter, UsernamePasswordAuthenticationFilter.class);
 
-        http.authenticationProvider(authenticationProvider);
+        http
+                .securityMatcher("/api/auth/**", "/swagger-ui*/**", "/api-docs/**", "/test-oauth2",
+                        "/.well-known/jwks.json")
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(registry -> registry.anyRequest().permitAll());
+        return http.build();
+    }
+
+    /**
+     * OAuth2 authorization-code handshake. The pending authorization request is kept in a
+     * signed cookie rather than the HttpSession, so the callback can be served by any node
+     * and this chain stays stateless like the others.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain oauth2FilterChain(HttpSecurity http, SecretKey secretKey) throws Exception {
 
-        // Configure OAuth2 login
         http.oauth2Login(oauth2 -> oauth2
+                .authorizationEndpoint(endpoint -> endpoint
+                        .authorizationRequestRepository(new SignedCookieAuthorizationRequestRepository(secretKey)))
                 .userInfoEndpoint(userInfo -> userInfo
                         .userService(oAuth2UserService)
                         .oidcUserService(customOidcUserService)) // Add OIDC user service
                 .successHandler(oAuth2AuthenticationSuccessHandler));
 
         http
-                .cors(Customizer.withDefaults()) // Enable CORS with default configuration
+                .securityMatcher("/oauth2/**", "/login/oauth2/**", "/login")
+                .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
-                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)) // Changed from
-                                                                                                    // STATELESS to
-                                                                                                    // IF_REQUIRED for
-                                                                                                    // OAuth2
-                .exceptionHandling(h -> h.authenticationEntryPoint(authEntryPoint))
+                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                .authorizeHttpRequests(registry -> registry.anyRequest().permitAll());
+        return http.build();
+    }
+
+    /**
+     * Everything else: bearer/cookie JWT only, never a session.
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain apiFilterChain(HttpSecurity http) throws Exception {
+
+        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+
+        http.authenticationProvider(authenticationProvider);
+
+        http
                 .securityMatcher("/**")
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .exceptionHandling(h -> h.authenticationEntryPoint(authEntryPoint))
                 .authorizeHttpRequests(
                         registry -> registry
-                                .requestMatchers("/api/auth/**", "/swagger-ui*/**", "/api-docs/**", "/login",
-                                        "/oauth2/**", "/login/oauth2/**", "/test-oauth2","/api/resume/upload")
+                                .requestMatchers("/api/resume/upload")
                                 .permitAll()
                                 .anyRequest().authenticated());
         return http.build();
     }
 
+    /**
+     * Both filters are Spring beans, so Boot would otherwise also register them on the
+     * servlet container and run them for every request, outside of the chains above.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilterRegistration() {
+        FilterRegistrationBean<AuthRateLimitFilter> registration = new FilterRegistrationBean<>(authRateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
         var builder = http.getSharedObject(AuthenticationManagerBuilder.class);
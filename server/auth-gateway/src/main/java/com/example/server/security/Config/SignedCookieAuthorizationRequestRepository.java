@@ -0,0 +1,199 @@
+package com.example.server.security.Config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the pending OAuth2 authorization request in a short-lived cookie instead of the
+ * HttpSession, so the redirect back from the provider can land on any gateway node.
+ *
+ * The cookie value is the request's fields as JSON plus an HMAC-SHA256 over it; the signature
+ * is checked before anything is parsed, so a client cannot forge or alter the stored state,
+ * redirect URI or nonce. The signed fields include an expiry, so a captured cookie stops
+ * loading after MAX_AGE even if the browser never dropped it. Only the authorization code
+ * grant (the one OAuth2 login uses) is stored.
+ *
+ * The MAC key is derived from the JWT secret rather than being the secret itself, so a cookie
+ * MAC can never double as a token signature or the other way round.
+ */
+public class SignedCookieAuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    static final String COOKIE_NAME = "oauth2_auth_request";
+
+    private static final String   HMAC_ALGORITHM = "HmacSHA256";
+    private static final String   KEY_PURPOSE    = "oauth2-authorization-request";
+    private static final Duration MAX_AGE        = Duration.ofMinutes(3);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SecretKeySpec signingKey;
+    private final Clock         clock;
+
+    public SignedCookieAuthorizationRequestRepository(SecretKey secretKey) {
+        this(secretKey, Clock.systemUTC());
+    }
+
+    SignedCookieAuthorizationRequestRepository(SecretKey secretKey, Clock clock) {
+        this.signingKey = new SecretKeySpec(hmac(new SecretKeySpec(secretKey.getEncoded(), HMAC_ALGORITHM),
+                KEY_PURPOSE.getBytes(StandardCharsets.UTF_8)), HMAC_ALGORITHM);
+        this.clock      = clock;
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String value = readCookie(request);
+        if (value == null) {
+            return null;
+        }
+
+        int separator = value.indexOf('.');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            byte[] payload   = Base64.getUrlDecoder().decode(value.substring(0, separator));
+            byte[] signature = Base64.getUrlDecoder().decode(value.substring(separator + 1));
+            if (!MessageDigest.isEqual(hmac(signingKey, payload), signature)) {
+                return null;
+            }
+            StoredRequest stored = objectMapper.readValue(payload, StoredRequest.class);
+            if (clock.millis() >= stored.expiresAt()) {
+                return null;
+            }
+            return stored.toAuthorizationRequest();
+        } catch (IllegalArgumentException | IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            writeCookie(request, response, "", Duration.ZERO);
+            return;
+        }
+
+        if (!AuthorizationGrantType.AUTHORIZATION_CODE.equals(authorizationRequest.getGrantType())) {
+            throw new IllegalArgumentException("Unsupported grant type " + authorizationRequest.getGrantType().getValue());
+        }
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(StoredRequest.from(authorizationRequest,
+                    clock.millis() + MAX_AGE.toMillis()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot store OAuth2 authorization request", e);
+        }
+        String value   = Base64.getUrlEncoder().withoutPadding().encodeToString(payload)
+                + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(signingKey, payload));
+        writeCookie(request, response, value, MAX_AGE);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                 HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        if (authorizationRequest != null) {
+            writeCookie(request, response, "", Duration.ZERO);
+        }
+        return authorizationRequest;
+    }
+
+    private static byte[] hmac(SecretKeySpec key, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign OAuth2 authorization request", e);
+        }
+    }
+
+    private static String readCookie(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The cookie payload. Parameters and attributes hold strings only (state, nonce, PKCE
+     * values, registration id), so they round-trip through JSON unchanged. expiresAt is in
+     * epoch milliseconds.
+     */
+    private record StoredRequest(String              authorizationUri,
+                                 String              clientId,
+                                 String              redirectUri,
+                                 Set<String>         scopes,
+                                 String              state,
+                                 Map<String, Object> additionalParameters,
+                                 Map<String, Object> attributes,
+                                 String              authorizationRequestUri,
+                                 long                expiresAt) {
+
+        static StoredRequest from(OAuth2AuthorizationRequest request, long expiresAt) {
+            return new StoredRequest(
+                    request.getAuthorizationUri(),
+                    request.getClientId(),
+                    request.getRedirectUri(),
+                    request.getScopes(),
+                    request.getState(),
+                    request.getAdditionalParameters(),
+                    request.getAttributes(),
+                    request.getAuthorizationRequestUri(),
+                    expiresAt);
+        }
+
+        OAuth2AuthorizationRequest toAuthorizationRequest() {
+            return OAuth2AuthorizationRequest.authorizationCode()
+                    .authorizationUri(authorizationUri)
+                    .clientId(clientId)
+                    .redirectUri(redirectUri)
+                    .scopes(scopes)
+                    .state(state)
+                    .additionalParameters(additionalParameters)
+                    .attributes(attributes)
+                    .authorizationRequestUri(authorizationRequestUri)
+                    .build();
+        }
+    }
+
+    private static void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        // Lax still sends the cookie on the provider's top-level redirect back to us
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
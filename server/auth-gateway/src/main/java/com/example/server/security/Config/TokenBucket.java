@@ -0,0 +1,74 @@
+package com.example.server.security.Config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The whole state (milli-tokens and the time of the last refill)
+ * is packed into one long and updated with compare-and-set, so concurrent requests for the
+ * same key never block and a bucket costs one object.
+ *
+ * Layout: high 44 bits = milliseconds since {@link #EPOCH_MS}, low 20 bits = milli-tokens,
+ * which caps capacity at 1048 tokens, plenty for per-client auth limits.
+ */
+final class TokenBucket {
+
+    private static final long EPOCH_MS     = System.currentTimeMillis();
+    private static final int  TOKEN_BITS   = 20;
+    private static final long TOKEN_MASK   = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI        = 1000;
+
+    static final int MAX_CAPACITY = (int) (TOKEN_MASK / MILLI);
+
+    private final long       capacityMilli;
+    private final double     milliTokensPerMs;
+    private final AtomicLong state;
+
+    TokenBucket(int capacity, long refillPeriodMs) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacityMilli    = capacity * MILLI;
+        this.milliTokensPerMs = (double) capacityMilli / Math.max(1, refillPeriodMs);
+        this.state            = new AtomicLong(pack(now(), capacityMilli));
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return 0 when allowed, otherwise the milliseconds until a token will be available
+     */
+    long tryConsume() {
+        while (true) {
+            long current = state.get();
+            long time    = current >>> TOKEN_BITS;
+            long tokens  = current & TOKEN_MASK;
+            long now     = now();
+
+            // Refill, advancing the clock only by the time that produced whole milli-tokens
+            // so frequent callers do not lose fractional refill
+            long gained = (long) (Math.max(0, now - time) * milliTokensPerMs);
+            if (tokens + gained >= capacityMilli) {
+                tokens = capacityMilli;
+                time   = now;
+            } else if (gained > 0) {
+                tokens += gained;
+                time   += (long) Math.ceil(gained / milliTokensPerMs);
+            }
+
+            if (tokens < MILLI) {
+                return Math.max(1, (long) Math.ceil((MILLI - tokens) / milliTokensPerMs));
+            }
+            if (state.compareAndSet(current, pack(time, tokens - MILLI))) {
+                return 0;
+            }
+        }
+    }
+
+    private static long pack(long time, long milliTokens) {
+        return (time << TOKEN_BITS) | milliTokens;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() - EPOCH_MS;
+    }
+}
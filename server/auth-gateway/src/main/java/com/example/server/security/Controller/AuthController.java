@@ -12,7 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -59,7 +59,7 @@ public class AuthController {
             @ApiResponse(responseCode = "400", description = "Email is already in use", content = @Content)
     })
     @PostMapping("/register")
-    public ResponseEntity<?> register(@RequestBody RegisterDto registerDto) throws MessagingException {
+    public ResponseEntity<?> register(@RequestBody RegisterDto registerDto) {
         return authService.register(registerDto);
     }
 
@@ -107,10 +107,19 @@ public class AuthController {
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content)
     })
     @PostMapping("/resend-verification")
-    public ResponseEntity<?> resendVerificationEmail(@RequestBody String email) throws MessagingException {
+    public ResponseEntity<?> resendVerificationEmail(@RequestBody String email) {
         return authService.resendVerificationEmail(email);
     }
 
+    @Operation(summary = "Logout and revoke the current token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token revoked and cookie cleared", content = @Content)
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        return authService.logout(request);
+    }
+
     @PostMapping("/update/role")
     public ResponseEntity<?> updateRole(@RequestBody Map<String, String> body) {
         logger.info("Received request to update role"+ body.get("role"));
@@ -0,0 +1,33 @@
+package com.example.server.security.Controller;
+
+import com.example.server.security.JWT.JwtKeyManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the token verification keys so downstream services can validate end-user
+ * tokens themselves. Empty while the gateway signs with the shared HMAC secret.
+ */
+@RestController
+public class JwksController {
+
+    private final JwtKeyManager keyManager;
+
+    public JwksController(JwtKeyManager keyManager) {
+        this.keyManager = keyManager;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        // Short enough for verifiers to pick up a rotated key well before it signs many tokens
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", keyManager.jwks()));
+    }
+}
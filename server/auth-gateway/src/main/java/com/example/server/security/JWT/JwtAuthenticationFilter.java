@@ -1,7 +1,9 @@
 package com.example.server.security.JWT;
 
+import com.example.server.security.Config.JwtConfig;
 import com.example.server.security.Service.CustomUserDetailsService;
-import jakarta.servlet.http.Cookie;
+import com.example.server.security.models.AuthPrincipal;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +17,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 @Component
@@ -22,12 +25,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = Logger.getLogger(JwtAuthenticationFilter.class.getName());
 
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtService jwtService;
+    private final JwtConfig jwtConfig;
     private final CustomUserDetailsService customUserDetailsService;
 
-    public JwtAuthenticationFilter(JwtService jwtService,
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService,
+            JwtService jwtService,
+            JwtConfig jwtConfig,
             CustomUserDetailsService customUserDetailsService) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
         this.jwtService = jwtService;
+        this.jwtConfig = jwtConfig;
         this.customUserDetailsService = customUserDetailsService;
     }
 
@@ -35,13 +47,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
-        String token = getJwtFromRequest(request);
+        String token = jwtService.resolveToken(request);
         logger.info("Token found in the request : " + token);
         try {
-            if (StringUtils.hasText(token) && jwtService.validateToken(token)) {
-                String email = jwtService.getEmailFromToken(token);
+            if (StringUtils.hasText(token)) {
+                JwtPrincipal jwtPrincipal = verifiedTokenCache.verify(token);
+                if (tokenRevocationService.isRevoked(jwtPrincipal)) {
+                    throw new AuthenticationCredentialsNotFoundException("JWT has been revoked");
+                }
 
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = loadPrincipal(jwtPrincipal);
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -57,20 +72,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("token".equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
+    /**
+     * In stateless mode the principal is rebuilt from the token claims, saving a MongoDB
+     * round trip per request. Tokens without user claims still fall back to a database lookup.
+     */
+    private UserDetails loadPrincipal(JwtPrincipal jwtPrincipal) {
+        if (jwtConfig.isStatelessPrincipal()) {
+            Optional<AuthPrincipal> fromClaims = JwtService.toAuthPrincipal(jwtPrincipal);
+            if (fromClaims.isPresent()) {
+                return fromClaims.get();
             }
         }
-
-        return null;
+        return customUserDetailsService.loadUserByUsername(jwtPrincipal.subject());
     }
 }
@@ -0,0 +1,196 @@
+package com.example.server.security.JWT;
+
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.models.SigningKey;
+import com.example.server.security.repository.SigningKeyRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * RSA signing keys for RS256 tokens.
+ *
+ * Every node generates its own key pair at startup and on each rotation, and publishes only the
+ * public key (with its kid) to the "jwtSigningKeys" collection. Tokens carry the kid in their
+ * header; a node that sees an unknown kid reloads the published keys once before rejecting it.
+ * A published key stays until every token it may have signed has expired.
+ *
+ * Inactive unless "jwt.signing.algorithm" is RS256.
+ */
+@Component
+public class JwtKeyManager {
+
+    private static final Logger logger = Logger.getLogger(JwtKeyManager.class.getName());
+
+    public static final String RS256 = "RS256";
+
+    private final SigningKeyRepository     signingKeyRepository;
+    private final MongoTemplate            mongoTemplate;
+    private final JwtConfig                jwtConfig;
+    private final Duration                 rotationInterval;
+    private final Duration                 minReloadInterval;
+    private final Map<String, RSAPublicKey> publicKeys = new ConcurrentHashMap<>();
+
+    private volatile ActiveKey activeKey;
+    private volatile Instant   lastReload = Instant.EPOCH;
+
+    public JwtKeyManager(SigningKeyRepository signingKeyRepository,
+                         MongoTemplate        mongoTemplate,
+                         JwtConfig            jwtConfig,
+                         @Value("${jwt.signing.rotation-interval:P1D}")      Duration rotationInterval,
+                         @Value("${jwt.signing.min-reload-interval:PT10S}")  Duration minReloadInterval) {
+
+        this.signingKeyRepository = signingKeyRepository;
+        this.mongoTemplate        = mongoTemplate;
+        this.jwtConfig            = jwtConfig;
+        this.rotationInterval     = rotationInterval;
+        this.minReloadInterval    = minReloadInterval;
+    }
+
+    public boolean isEnabled() {
+        return RS256.equalsIgnoreCase(jwtConfig.getSigningAlgorithm());
+    }
+
+    @PostConstruct
+    void init() {
+        if (!isEnabled()) return;
+        mongoTemplate.indexOps(SigningKey.class)
+                .createIndex(new Index("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+        rotate();
+    }
+
+    /**
+     * Key id and private key to sign new tokens with.
+     */
+    public ActiveKey activeKey() {
+        return activeKey;
+    }
+
+    /**
+     * Public key for a kid, or null when no live key with that id is published.
+     */
+    public RSAPublicKey publicKey(String kid) {
+        RSAPublicKey key = publicKeys.get(kid);
+        if (key == null && Instant.now().isAfter(lastReload.plus(minReloadInterval))) {
+            // Signed by a key another node published after our last reload
+            reload();
+            key = publicKeys.get(kid);
+        }
+        return key;
+    }
+
+    /**
+     * Public keys as RFC 7517 JWKs.
+     */
+    public List<Map<String, Object>> jwks() {
+        return publicKeys.entrySet().stream()
+                .map(entry -> toJwk(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.rotation-interval:P1D}",
+               initialDelayString = "${jwt.signing.rotation-interval:P1D}")
+    public void rotate() {
+        if (!isEnabled()) return;
+
+        KeyPair keyPair = generateKeyPair();
+        String  kid     = UUID.randomUUID().toString();
+        Instant now     = Instant.now();
+
+        // Usable for one rotation interval, then verifiable until its last token expires
+        Instant expiresAt = now.plus(rotationInterval)
+                .plus(Duration.ofMillis(Math.max(jwtConfig.getJwtExpiration(), jwtConfig.getTemporaryJwtExpiration())));
+
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        signingKeyRepository.save(new SigningKey(kid, RS256,
+                Base64.getEncoder().encodeToString(publicKey.getEncoded()), now, expiresAt));
+
+        publicKeys.put(kid, publicKey);
+        activeKey = new ActiveKey(kid, keyPair.getPrivate(), publicKey);
+        logger.info("Rotated JWT signing key, new kid: " + kid);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:PT5M}")
+    public void reload() {
+        if (!isEnabled()) return;
+        lastReload = Instant.now();
+
+        Map<String, RSAPublicKey> live = new ConcurrentHashMap<>();
+        for (SigningKey stored : signingKeyRepository.findByExpiresAtAfter(lastReload)) {
+            live.put(stored.getKid(), decode(stored.getPublicKey()));
+        }
+        ActiveKey current = activeKey;
+        if (current != null) {
+            live.putIfAbsent(current.kid(), current.publicKey());
+        }
+
+        publicKeys.putAll(live);
+        publicKeys.keySet().retainAll(live.keySet());
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("RSA not available", e);
+        }
+    }
+
+    private static RSAPublicKey decode(String encoded) {
+        try {
+            return (RSAPublicKey) KeyFactory.getInstance("RSA")
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encoded)));
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalStateException("Invalid published signing key", e);
+        }
+    }
+
+    private static Map<String, Object> toJwk(String kid, RSAPublicKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "RSA");
+        jwk.put("use", "sig");
+        jwk.put("alg", RS256);
+        jwk.put("kid", kid);
+        jwk.put("n", base64Url(key.getModulus()));
+        jwk.put("e", base64Url(key.getPublicExponent()));
+        return jwk;
+    }
+
+    // Unsigned big-endian, as required for JWK "n" and "e"
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record ActiveKey(String kid, PrivateKey privateKey, RSAPublicKey publicKey) {
+    }
+}
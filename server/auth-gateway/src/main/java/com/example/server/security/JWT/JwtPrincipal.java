@@ -0,0 +1,65 @@
+package com.example.server.security.JWT;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of a verified JWT.
+ * Produced once per token by {@link JwtService#verify(String)} so callers never
+ * have to parse (and re-check the signature of) the same token twice.
+ */
+public record JwtPrincipal(String subject,
+                           Instant issuedAt,
+                           Instant expiration,
+                           Map<String, Object> claims) {
+
+    private static final Set<String> REGISTERED_CLAIMS = Set.of(
+            Claims.SUBJECT, Claims.ISSUED_AT, Claims.EXPIRATION);
+
+    public JwtPrincipal {
+        claims = claims == null ? Map.of() : Map.copyOf(claims);
+    }
+
+    public static JwtPrincipal from(Claims claims) {
+        Map<String, Object> custom = new HashMap<>();
+        claims.forEach((name, value) -> {
+            if (value != null && !REGISTERED_CLAIMS.contains(name)) {
+                custom.put(name, value);
+            }
+        });
+
+        return new JwtPrincipal(
+                claims.getSubject(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()),
+                custom);
+    }
+
+    /**
+     * Returns a custom claim cast to the requested type, or null when absent.
+     */
+    public <T> T claim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * The "jti" claim, or null for tokens issued without one.
+     */
+    public String tokenId() {
+        return claim(Claims.ID, String.class);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && !now.isBefore(expiration);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
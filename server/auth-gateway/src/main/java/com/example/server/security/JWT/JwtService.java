@@ -1,25 +1,55 @@
 package com.example.server.security.JWT;
 
 import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.Role;
+import com.example.server.security.models.userEntity;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService {
 
-    private final SecretKey key;
-    private final JwtConfig jwtConfig;
+    // Claims carried by user tokens so a request can be authenticated without a database read
+    public static final String CLAIM_USER_ID              = "uid";
+    public static final String CLAIM_ROLES                = "roles";
+    public static final String CLAIM_EMAIL_VERIFIED       = "emailVerified";
+    public static final String CLAIM_HAS_RESUME           = "hasResume";
+    public static final String CLAIM_HAS_ANY_ORGANIZATION = "hasAnyOrganization";
 
-    public JwtService(SecretKey key, JwtConfig jwtConfig) {
-        this.key       = key;
-        this.jwtConfig = jwtConfig;
+    private final SecretKey     key;
+    private final JwtConfig     jwtConfig;
+    private final JwtKeyManager keyManager;
+
+    /**
+     * Built once and shared: a jjwt parser is immutable and thread-safe once built,
+     * so rebuilding it per call only costs allocations on the hottest path.
+     */
+    private final JwtParser parser;
+
+    public JwtService(SecretKey key, JwtConfig jwtConfig, JwtKeyManager keyManager) {
+        this.key        = key;
+        this.jwtConfig  = jwtConfig;
+        this.keyManager = keyManager;
+        this.parser     = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyResolver())
+                .build();
     }
 
     /**
@@ -32,11 +62,45 @@ public class JwtService {
         Date currentDate = new Date();
         Date expireDate  = new Date(currentDate.getTime() + jwtConfig.getJwtExpiration());
 
-        return Jwts.builder()
+        return sign(Jwts.builder())
                 .setSubject(email) // Using email as the subject for identification
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    /**
+     * Generates a JWT token for a loaded user.
+     * Besides the email subject, the token embeds the user id, role names and the
+     * onboarding flags so that {@link #toAuthPrincipal(JwtPrincipal)} can rebuild the
+     * principal without hitting MongoDB.
+     */
+    public String generateToken(userEntity user) {
+        return generateToken(user.getEmail(), withUserClaims(Jwts.builder(), user));
+    }
+
+    /**
+     * Same as {@link #generateToken(userEntity)} for a user read through the login projection.
+     */
+    public String generateToken(AuthPrincipal principal) {
+        return generateToken(principal.getEmail(), withUserClaims(Jwts.builder(),
+                principal.getId(),
+                principal.getRoles(),
+                principal.isEmailVerified(),
+                principal.isHasResume(),
+                principal.isHasAnyOrganization()));
+    }
+
+    private String generateToken(String email, JwtBuilder claims) {
+        Date currentDate = new Date();
+        Date expireDate  = new Date(currentDate.getTime() + jwtConfig.getJwtExpiration());
+
+        return sign(claims)
+                .setSubject(email)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(currentDate)
+                .setExpiration(expireDate)
                 .compact();
     }
 
@@ -48,25 +112,72 @@ public class JwtService {
         Date currentDate = new Date();
         Date expireDate  = new Date(currentDate.getTime() + jwtConfig.getTemporaryJwtExpiration());
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (authentication.getPrincipal() instanceof userEntity user) {
+            withUserClaims(builder, user);
+        }
+
+        return sign(builder)
                 .setSubject(email) // Using email as the subject for identification
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(new Date())
                 .setExpiration(expireDate)
-                .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Verifies the token signature and expiry exactly once and returns its claims.
+     * Use this instead of calling {@link #validateToken} followed by {@link #getEmailFromToken}.
+     */
+    public JwtPrincipal verify(String token) {
+        try {
+            return JwtPrincipal.from(parser.parseClaimsJws(token).getBody());
+
+        } catch (ExpiredJwtException ex) {
+            throw new AuthenticationCredentialsNotFoundException("JWT has expired", ex);
+        } catch (SignatureException ex) {
+            throw new AuthenticationCredentialsNotFoundException("Invalid JWT signature", ex);
+        } catch (MalformedJwtException ex) {
+            throw new AuthenticationCredentialsNotFoundException("Invalid JWT token", ex);
+        } catch (UnsupportedJwtException ex) {
+            throw new AuthenticationCredentialsNotFoundException("Unsupported JWT token", ex);
+        } catch (IllegalArgumentException ex) {
+            throw new AuthenticationCredentialsNotFoundException("JWT claims string is empty", ex);
+        }
+    }
+
+    /**
+     * Rebuilds the authenticated principal from the claims written by {@link #generateToken(userEntity)}.
+     * Returns empty for tokens issued without those claims (older tokens, OAuth2 logins),
+     * in which case the caller has to load the user from the database.
+     */
+    public static Optional<AuthPrincipal> toAuthPrincipal(JwtPrincipal jwtPrincipal) {
+        String userId = jwtPrincipal.claim(CLAIM_USER_ID, String.class);
+        if (userId == null || !ObjectId.isValid(userId)) {
+            return Optional.empty();
+        }
+
+        List<Role> roles = new ArrayList<>();
+        List<?> roleNames = jwtPrincipal.claim(CLAIM_ROLES, List.class);
+        if (roleNames != null) {
+            roleNames.forEach(name -> roles.add(new Role(null, String.valueOf(name))));
+        }
+
+        return Optional.of(new AuthPrincipal(
+                new ObjectId(userId),
+                jwtPrincipal.subject(),
+                roles,
+                Boolean.TRUE.equals(jwtPrincipal.claim(CLAIM_EMAIL_VERIFIED, Boolean.class)),
+                Boolean.TRUE.equals(jwtPrincipal.claim(CLAIM_HAS_RESUME, Boolean.class)),
+                Boolean.TRUE.equals(jwtPrincipal.claim(CLAIM_HAS_ANY_ORGANIZATION, Boolean.class))));
+    }
+
     /**
      * Extracts email from JWT token
      * (Since we store email as the subject in the token)
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return verify(token).subject();
     }
 
     /**
@@ -84,28 +195,98 @@ public class JwtService {
         return getEmailFromToken(token);
     }
 
+    /**
+     * Returns the raw token sent as a Bearer header or, failing that, as the "token" cookie.
+     */
+    public String resolveToken(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("token".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Validates a JWT token
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+        verify(token);
+        return true;
+    }
 
-            return true;
+    /**
+     * Signs with the node's current RSA key (kid in the header) in RS256 mode,
+     * otherwise with the shared HMAC secret.
+     */
+    private JwtBuilder sign(JwtBuilder builder) {
+        if (keyManager.isEnabled()) {
+            JwtKeyManager.ActiveKey active = keyManager.activeKey();
+            return builder
+                    .setHeaderParam(JwsHeader.KEY_ID, active.kid())
+                    .signWith(active.privateKey(), SignatureAlgorithm.RS256);
+        }
+        return builder.signWith(key, SignatureAlgorithm.HS512);
+    }
 
-        } catch (ExpiredJwtException ex) {
-            throw new AuthenticationCredentialsNotFoundException("JWT has expired", ex);
-        } catch (SignatureException ex) {
-            throw new AuthenticationCredentialsNotFoundException("Invalid JWT signature", ex);
-        } catch (MalformedJwtException ex) {
-            throw new AuthenticationCredentialsNotFoundException("Invalid JWT token", ex);
-        } catch (UnsupportedJwtException ex) {
-            throw new AuthenticationCredentialsNotFoundException("Unsupported JWT token", ex);
-        } catch (IllegalArgumentException ex) {
-            throw new AuthenticationCredentialsNotFoundException("JWT claims string is empty", ex);
+    private JwtBuilder withUserClaims(JwtBuilder builder, userEntity user) {
+        return withUserClaims(builder,
+                user.getId(),
+                user.getRoles(),
+                user.isEmailVerified(),
+                user.isHasResume(),
+                user.isHasAnyOrganization());
+    }
+
+    private JwtBuilder withUserClaims(JwtBuilder builder,
+                                      ObjectId id,
+                                      List<Role> roles,
+                                      boolean emailVerified,
+                                      boolean hasResume,
+                                      boolean hasAnyOrganization) {
+        List<String> roleNames = roles.stream()
+                .map(Role::getName)
+                .toList();
+
+        return builder
+                .claim(CLAIM_USER_ID, id != null ? id.toString() : null)
+                .claim(CLAIM_ROLES, roleNames)
+                .claim(CLAIM_EMAIL_VERIFIED, emailVerified)
+                .claim(CLAIM_HAS_RESUME, hasResume)
+                .claim(CLAIM_HAS_ANY_ORGANIZATION, hasAnyOrganization);
+    }
+
+    /**
+     * Picks the verification key from the token header. The key type follows the header
+     * algorithm, so an HMAC token can never be checked against a published RSA key, and HMAC
+     * tokens are refused outright once the shared secret is no longer trusted for signing.
+     */
+    private class KeyResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+            if (algorithm.isHmac()) {
+                if (jwtConfig.acceptsHmac()) {
+                    return key;
+                }
+                throw new UnsupportedJwtException("HMAC-signed tokens are not accepted");
+            }
+            if (algorithm == SignatureAlgorithm.RS256 && header.getKeyId() != null) {
+                Key publicKey = keyManager.publicKey(header.getKeyId());
+                if (publicKey != null) {
+                    return publicKey;
+                }
+            }
+            throw new UnsupportedJwtException("Unknown signing key: " + header.getKeyId());
         }
     }
 }
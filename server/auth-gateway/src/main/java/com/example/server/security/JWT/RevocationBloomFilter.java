@@ -0,0 +1,79 @@
+package com.example.server.security.JWT;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, lock-free Bloom filter over token ids.
+ * Bits are only ever set (with CAS), never cleared, so concurrent readers need no locking;
+ * expired ids are dropped by building a fresh filter and swapping the reference. Shared by the
+ * servlet and reactive revocation services.
+ */
+public final class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long            bitCount;
+    private final int             hashCount;
+
+    public RevocationBloomFilter(long expectedEntries, double falsePositiveRate) {
+        long n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bits      = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+        this.bitCount  = (long) bits.length() << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long[] hashes = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit  = index(hashes, i);
+            int  word = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) break;
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * False means definitely not added; true means possibly added.
+     */
+    public boolean mightContain(String value) {
+        long[] hashes = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hashes, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch–Mitzenmacher double hashing over the two halves of a SHA-256 digest
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+    }
+
+    private static long[] hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            long h1 = 0;
+            long h2 = 0;
+            for (int i = 0; i < 8; i++) {
+                h1 = (h1 << 8) | (digest[i] & 0xff);
+                h2 = (h2 << 8) | (digest[i + 8] & 0xff);
+            }
+            return new long[]{h1, h2 | 1};
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.server.security.JWT;
+
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.models.RevokedToken;
+import com.example.server.security.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Revocation list for JWTs that must stop working before their own expiry.
+ *
+ * Entries live in the "revokedTokens" collection (TTL-indexed on expiresAt). Every node keeps
+ * an in-memory view that is refreshed on a fixed delay:
+ *   - revoked token ids go into a Bloom filter, so the common case (token not revoked) is
+ *     answered without touching MongoDB; only a Bloom hit is confirmed with a lookup by jti,
+ *   - subject-wide revocations ("every token issued before T") are few and kept in a map.
+ * Revocations made on this node are applied locally right away; other nodes see them after
+ * at most one sync interval.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = Logger.getLogger(TokenRevocationService.class.getName());
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final MongoTemplate          mongoTemplate;
+    private final JwtConfig              jwtConfig;
+    private final long                   expectedEntries;
+    private final double                 falsePositiveRate;
+    private final Duration               syncOverlap;
+
+    private final Map<String, Instant>    revokedSubjects = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter revokedIds;
+    private volatile Instant               lastSync = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  MongoTemplate          mongoTemplate,
+                                  JwtConfig              jwtConfig,
+                                  @Value("${jwt.revocation.expected-entries:100000}") long     expectedEntries,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}")  double   falsePositiveRate,
+                                  @Value("${jwt.revocation.sync-overlap:PT5S}")         Duration syncOverlap) {
+
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.mongoTemplate          = mongoTemplate;
+        this.jwtConfig              = jwtConfig;
+        this.expectedEntries        = expectedEntries;
+        this.falsePositiveRate      = falsePositiveRate;
+        this.syncOverlap            = syncOverlap;
+        this.revokedIds             = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    /**
+     * Called after signature verification; the negative path is memory-only.
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        Instant revokedBefore = principal.subject() == null ? null : revokedSubjects.get(principal.subject());
+        if (revokedBefore != null && principal.issuedAt() != null && !principal.issuedAt().isAfter(revokedBefore)) {
+            return true;
+        }
+
+        String jti = principal.tokenId();
+        if (jti == null || !revokedIds.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsByJti(jti);
+    }
+
+    /**
+     * Revokes a single token until its own expiry (logout).
+     */
+    public void revoke(JwtPrincipal principal) {
+        String jti = principal.tokenId();
+        if (jti == null) {
+            // Issued before tokens carried an id: the only handle left is the subject
+            revokeAllForSubject(principal.subject());
+            return;
+        }
+
+        Instant now       = Instant.now();
+        Instant expiresAt = principal.expiration() != null ? principal.expiration() : now.plus(maxTokenLifetime());
+
+        revokedTokenRepository.save(new RevokedToken(null, jti, principal.subject(), null, now, expiresAt));
+        revokedIds.put(jti);
+    }
+
+    /**
+     * Revokes every token of the subject issued up to now (role or password change).
+     * JWT "iat" has second precision, so a token issued within the same second is revoked too.
+     */
+    public void revokeAllForSubject(String subject) {
+        Instant now           = Instant.now();
+        Instant revokedBefore = now.truncatedTo(ChronoUnit.SECONDS);
+
+        revokedTokenRepository.save(new RevokedToken(null, null, subject, revokedBefore, now, now.plus(maxTokenLifetime())));
+        revokedSubjects.merge(subject, revokedBefore, TokenRevocationService::latest);
+    }
+
+    /**
+     * Pulls entries written by other nodes since the previous sync. Creation times come from each
+     * writer's clock, hence the overlap window.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:PT10S}",
+               initialDelayString = "${jwt.revocation.sync-interval:PT10S}")
+    public void sync() {
+        Instant started = Instant.now();
+        List<RevokedToken> entries = revokedTokenRepository.findByCreatedAtGreaterThanEqual(lastSync.minus(syncOverlap));
+        entries.forEach(this::apply);
+        lastSync = started;
+    }
+
+    /**
+     * Bloom filters cannot forget, so the filter is periodically rebuilt from the unexpired
+     * entries and swapped in; subject entries past their expiry are dropped at the same time.
+     * Local revocations that land in the old view while the entries are read are saved before
+     * the swap, so the catch-up read after it finds them.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:PT1H}",
+               initialDelayString = "${jwt.revocation.rebuild-interval:PT1H}")
+    public void rebuild() {
+        Instant started = Instant.now();
+        RevocationBloomFilter fresh = new RevocationBloomFilter(expectedEntries, falsePositiveRate);
+        Map<String, Instant>  subjects = new ConcurrentHashMap<>();
+
+        for (RevokedToken entry : revokedTokenRepository.findByExpiresAtAfter(started)) {
+            if (entry.getJti() != null) {
+                fresh.put(entry.getJti());
+            } else if (entry.getSubject() != null && entry.getRevokedBefore() != null) {
+                subjects.merge(entry.getSubject(), entry.getRevokedBefore(), TokenRevocationService::latest);
+            }
+        }
+
+        revokedIds = fresh;
+        revokedSubjects.keySet().retainAll(subjects.keySet());
+        subjects.forEach((subject, before) -> revokedSubjects.merge(subject, before, TokenRevocationService::latest));
+        revokedTokenRepository.findByCreatedAtGreaterThanEqual(started.minus(syncOverlap)).forEach(this::apply);
+        lastSync = started;
+        logger.info("Token revocation list rebuilt");
+    }
+
+    @PostConstruct
+    void init() {
+        mongoTemplate.indexOps(RevokedToken.class)
+                .createIndex(new Index("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+        mongoTemplate.indexOps(RevokedToken.class)
+                .createIndex(new Index("jti", Sort.Direction.ASC).sparse());
+        mongoTemplate.indexOps(RevokedToken.class)
+                .createIndex(new Index("createdAt", Sort.Direction.ASC));
+        rebuild();
+    }
+
+    private void apply(RevokedToken entry) {
+        if (entry.getJti() != null) {
+            revokedIds.put(entry.getJti());
+        } else if (entry.getSubject() != null && entry.getRevokedBefore() != null) {
+            revokedSubjects.merge(entry.getSubject(), entry.getRevokedBefore(), TokenRevocationService::latest);
+        }
+    }
+
+    private Duration maxTokenLifetime() {
+        return Duration.ofMillis(Math.max(jwtConfig.getJwtExpiration(), jwtConfig.getTemporaryJwtExpiration()));
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.server.security.JWT;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Size-bounded cache of already verified tokens, sitting in front of {@link JwtService}.
+ * Clients resend the same bearer token (or "token" cookie) on every call, so after the first
+ * request the signature check is replaced by a SHA-256 of the token and a map lookup.
+ *
+ * Entries are keyed by the token hash (raw tokens are never retained) and expire exactly at the
+ * token's "exp" claim, so a cached entry can never outlive the token itself.
+ * Invalid tokens are never cached; they keep failing through {@link JwtService#verify(String)}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService                 jwtService;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(JwtService    jwtService,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.cache.max-ttl:PT1H}") Duration maxTtl) {
+
+        this.jwtService = jwtService;
+        this.cache      = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * Same contract as {@link JwtService#verify(String)}: returns the verified principal
+     * or throws when the token is invalid or expired.
+     */
+    public JwtPrincipal verify(String token) {
+        String key = hash(token);
+
+        JwtPrincipal cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        JwtPrincipal verified = jwtService.verify(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at the token's own expiry, capped by the configured maximum TTL.
+     */
+    private record UntilTokenExpiry(Duration maxTtl) implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            long maxNanos = maxTtl.toNanos();
+            if (principal.expiration() == null) {
+                return maxNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), principal.expiration()).toNanos();
+            return Math.max(0, Math.min(untilExpiry, maxNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
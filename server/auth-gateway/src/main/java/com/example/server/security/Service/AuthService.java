@@ -1,28 +1,34 @@
 package com.example.server.security.Service;
 
 import com.example.server.exception.CustomExceptions.UserNotFoundException;
+import com.example.server.security.JWT.JwtPrincipal;
 import com.example.server.security.JWT.JwtService;
+import com.example.server.security.JWT.TokenRevocationService;
+import com.example.server.security.JWT.VerifiedTokenCache;
 import com.example.server.security.DTO.*;
 import com.example.server.security.exception.InvalidTokenException;
 import com.example.server.security.exception.TokenExpiredException;
 import com.example.server.security.exception.UserAlreadyExistsException;
+import com.example.server.security.models.AuthPrincipal;
 import com.example.server.security.models.ConfirmationToken;
 import com.example.server.security.models.Role;
 import com.example.server.security.models.userEntity;
-import com.example.server.security.repository.ConfirmationTokenRepository;
-import com.example.server.security.repository.RoleRepository;
 import com.example.server.security.repository.UserRepository;
-import jakarta.mail.MessagingException;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -34,60 +40,70 @@ import java.util.logging.Logger;
 public class AuthService {
 
     private static final Logger               logger = Logger.getLogger(AuthService.class.getName());
-    private final AuthenticationManager       authenticationManager;
     private final UserRepository              userRepository;
-    private final RoleRepository              roleRepository;
-    private final PasswordEncoder             passwordEncoder;
+    private final RoleRegistry                roleRegistry;
+    private final PasswordHashingService      passwordHashingService;
+    private final UserDetailsPasswordService  userDetailsPasswordService;
     private final JwtService                  jwtService;
-    private final ConfirmationTokenRepository confirmationTokenRepository;
+    private final OtpStore                    otpStore;
     private final EmailService                emailService;
+    private final VerifiedTokenCache          verifiedTokenCache;
+    private final TokenRevocationService      tokenRevocationService;
 
     @Autowired
-    public AuthService(AuthenticationManager       authenticationManager,
-                       UserRepository              userRepository,
-                       RoleRepository              roleRepository,
-                       PasswordEncoder             passwordEncoder,
+    public AuthService(UserRepository              userRepository,
+                       RoleRegistry                roleRegistry,
+                       PasswordHashingService      passwordHashingService,
+                       UserDetailsPasswordService  userDetailsPasswordService,
                        JwtService                  jwtService,
-                       ConfirmationTokenRepository confirmationTokenRepository,
-                       EmailService                emailService) {
+                       OtpStore                    otpStore,
+                       EmailService                emailService,
+                       VerifiedTokenCache          verifiedTokenCache,
+                       TokenRevocationService      tokenRevocationService) {
 
-        this.authenticationManager       = authenticationManager;
         this.userRepository              = userRepository;
-        this.roleRepository              = roleRepository;
-        this.passwordEncoder             = passwordEncoder;
+        this.roleRegistry                = roleRegistry;
+        this.passwordHashingService      = passwordHashingService;
+        this.userDetailsPasswordService  = userDetailsPasswordService;
         this.jwtService                  = jwtService;
-        this.confirmationTokenRepository = confirmationTokenRepository;
+        this.otpStore                    = otpStore;
         this.emailService                = emailService;
+        this.verifiedTokenCache          = verifiedTokenCache;
+        this.tokenRevocationService      = tokenRevocationService;
     }
 
+    /**
+     * Loads the user once and carries it through the verification check, the password check
+     * and token creation. Nothing is written to the SecurityContext: the login request itself
+     * needs no authentication, the client authenticates later calls with the returned token.
+     * Only the projected {@link AuthPrincipal} is read, never the job and organization arrays.
+     */
     public ResponseEntity<?> login(LoginDto loginDto) {
-            userEntity user = userRepository.findByEmail(loginDto.getEmail())
-                    .orElseThrow(() -> new UserNotFoundException("User with this email does not exist :" + loginDto.getEmail()));
-
-            if (!user.isEmailVerified()) {
-                logger.warning("Login attempt with unverified email: " + loginDto.getEmail());
-                return new ResponseEntity<>("Please verify your email before logging in", HttpStatus.UNAUTHORIZED);
-            }
-
-            // Attempt authentication
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginDto.getEmail(),
-                            loginDto.getPassword()));
+        AuthPrincipal user = userRepository.findPrincipalByEmail(loginDto.getEmail())
+                .orElseThrow(() -> new UserNotFoundException("User with this email does not exist :" + loginDto.getEmail()));
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            String token = jwtService.generateToken(authentication);
+        if (!user.isEmailVerified()) {
+            logger.warning("Login attempt with unverified email: " + loginDto.getEmail());
+            return new ResponseEntity<>("Please verify your email before logging in", HttpStatus.UNAUTHORIZED);
+        }
 
-            // Create comprehensive login response with user info
-            LoginResponseDTO loginResponse = new LoginResponseDTO( user.getName(), user.getEmail(), user.getRoles(), token);
+        if (!passwordHashingService.matches(loginDto.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Invalid password");
+        }
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userDetailsPasswordService.updatePassword(user, passwordHashingService.encode(loginDto.getPassword()));
+        }
 
-            logger.info("Successful login for user: " + loginDto.getEmail());
-            return new ResponseEntity<>(loginResponse, HttpStatus.OK);
+        String token = jwtService.generateToken(user);
 
+        // Create comprehensive login response with user info
+        LoginResponseDTO loginResponse = new LoginResponseDTO( user.getName(), user.getEmail(), user.getRoles(), token);
 
+        logger.info("Successful login for user: " + loginDto.getEmail());
+        return new ResponseEntity<>(loginResponse, HttpStatus.OK);
     }
 
-    public ResponseEntity<?> register(RegisterDto registerDto) throws MessagingException {
+    public ResponseEntity<?> register(RegisterDto registerDto) {
 
         if (Boolean.TRUE.equals(userRepository.existsByEmail(registerDto.getEmail()))) {
             throw new UserAlreadyExistsException("User already exists with email: " + registerDto.getEmail());
@@ -96,8 +112,8 @@ public class AuthService {
         userEntity user = new userEntity();
         user.setName(registerDto.getName());
         user.setEmail(registerDto.getEmail());
-        user.setPassword(passwordEncoder.encode((registerDto.getPassword())));
-        Role roles = roleRepository.findByName(registerDto.getRole())
+        user.setPassword(passwordHashingService.encode(registerDto.getPassword()));
+        Role roles = roleRegistry.findByName(registerDto.getRole())
                 .orElseThrow(() -> new IllegalArgumentException("Role not found with name: " + registerDto.getRole()));
         user.setRoles(Collections.singletonList(roles));
         user.setEnabled(true);
@@ -128,8 +144,7 @@ public class AuthService {
             throw new InvalidTokenException("Confirmation token cannot be empty");
         }
 
-        Optional<ConfirmationToken> token = Optional.ofNullable(
-                confirmationTokenRepository.findByToken(confirmationToken));
+        Optional<ConfirmationToken> token = otpStore.find(email, confirmationToken);
 
         if (token.isPresent()) {
             logger.info("Token found in database for verification: " + confirmationToken);
@@ -139,7 +154,7 @@ public class AuthService {
             if (confirmToken.getExpiryDate() != null &&
                     confirmToken.getExpiryDate().isBefore(LocalDateTime.now())) {
                 logger.warning("Expired token used: " + confirmationToken);
-                confirmationTokenRepository.deleteById(confirmToken.getId());
+                otpStore.delete(confirmToken);
                 throw new TokenExpiredException("OTP has expired. Please request a new one.");
             }
 
@@ -153,7 +168,7 @@ public class AuthService {
 
                 // Check if already verified
                 if (user.isEmailVerified()) {
-                    confirmationTokenRepository.deleteById(confirmToken.getId());
+                    otpStore.delete(confirmToken);
                     return "Email is already verified";
                 }
 
@@ -162,7 +177,7 @@ public class AuthService {
                 logger.info("Email verified successfully for user: " + userEmail);
             }
 
-            confirmationTokenRepository.deleteById(confirmToken.getId());
+            otpStore.delete(confirmToken);
             return "Email verified successfully";
         }
 
@@ -170,20 +185,20 @@ public class AuthService {
         throw new InvalidTokenException("Invalid OTP. Please check your OTP and try again.");
     }
 
-    public void sendConfirmationToken(String email) throws MessagingException {
+    public void sendConfirmationToken(String email) {
         SecureRandom random = new SecureRandom();
         int randomNumber = 1000 + random.nextInt(9000);
         String otpString = String.valueOf(randomNumber);
 
         ConfirmationToken confirmationToken = new ConfirmationToken(randomNumber,email,LocalDateTime.now().plusMinutes(10));
 
-        confirmationTokenRepository.save(confirmationToken);
+        otpStore.save(confirmationToken);
         emailService.sendVerificationEmail(email, otpString);
 
         logger.info("Confirmation Token: " + confirmationToken.getToken());
     }
 
-    public ResponseEntity<?> resendVerificationEmail(String email) throws MessagingException {
+    public ResponseEntity<?> resendVerificationEmail(String email) {
         // Input validation
         if (email == null || email.trim().isEmpty()) {
             return new ResponseEntity<>("Email is required", HttpStatus.BAD_REQUEST);
@@ -205,12 +220,43 @@ public class AuthService {
     public void updateRole(String email, String roleName) {
         userEntity user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email:"+ email));
-        Role role = roleRepository.findByName(roleName)
+        Role role = roleRegistry.findByName(roleName)
                 .orElseThrow(() -> new IllegalArgumentException("Role not found with name: "+ roleName));
 
         user.getRoles().clear();
         user.getRoles().add(role);
         userRepository.save(user);
+
+        // Outstanding tokens still carry the previous roles
+        tokenRevocationService.revokeAllForSubject(user.getEmail());
+    }
+
+    /**
+     * Revokes the token presented with the request and clears the "token" cookie.
+     * A missing, invalid or already expired token is not an error: it cannot be used anyway.
+     */
+    public ResponseEntity<?> logout(HttpServletRequest request) {
+        String token = jwtService.resolveToken(request);
+
+        if (StringUtils.hasText(token)) {
+            try {
+                JwtPrincipal principal = verifiedTokenCache.verify(token);
+                tokenRevocationService.revoke(principal);
+                verifiedTokenCache.invalidate(token);
+                logger.info("Token revoked on logout for user: " + principal.subject());
+            } catch (AuthenticationException e) {
+                logger.info("Logout with an unusable token: " + e.getMessage());
+            }
+        }
+
+        ResponseCookie expiredCookie = ResponseCookie.from("token", "")
+                .path("/")
+                .maxAge(0)
+                .build();
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, expiredCookie.toString())
+                .body("Logged out successfully");
     }
 
     /*
@@ -0,0 +1,279 @@
+package com.example.server.security.Service;
+
+import com.example.server.UserProfile.Service.OrganizationCache;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.mongodb.client.model.Filters.eq;
+
+/**
+ * Propagates writes made by any gateway instance to the local caches of every instance.
+ *
+ * Each node tails a MongoDB change stream on the "users" and "organization" collections and evicts
+ * the changed document from {@link UserCache} / {@link OrganizationCache}. Local writes are already
+ * evicted synchronously by the Spring Data event listeners; seeing them again here is harmless.
+ *
+ * The last processed resume token is persisted per node and collection, so a restarted node or a
+ * dropped cursor continues where it stopped. When the oplog no longer holds that position, events
+ * may have been missed and the affected cache is cleared before starting a fresh stream.
+ *
+ * Change streams require a replica set (a single-node replica set is enough), hence the feature
+ * is opt-in through "cache.invalidation.change-streams.enabled".
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.change-streams.enabled", havingValue = "true")
+public class CacheInvalidationChangeStreamListener implements SmartLifecycle {
+
+    private static final Logger logger = Logger.getLogger(CacheInvalidationChangeStreamListener.class.getName());
+
+    static final String USERS_COLLECTION         = "users";
+    static final String ORGANIZATION_COLLECTION  = "organization";
+    static final String RESUME_TOKEN_COLLECTION  = "changeStreamResumeTokens";
+
+    // ChangeStreamHistoryLost / ChangeStreamFatalError: the stored token cannot be resumed from
+    private static final int HISTORY_LOST_ERROR  = 286;
+    private static final int FATAL_STREAM_ERROR  = 280;
+
+    private final MongoTemplate     mongoTemplate;
+    private final UserCache         userCache;
+    private final OrganizationCache organizationCache;
+    private final String            instanceId;
+    private final Duration          tokenFlushInterval;
+    private final Duration          retryBackoff;
+    private final List<Thread>      workers = new ArrayList<>();
+
+    private volatile boolean running = false;
+
+    public CacheInvalidationChangeStreamListener(MongoTemplate     mongoTemplate,
+                                                 UserCache         userCache,
+                                                 OrganizationCache organizationCache,
+                                                 @Value("${cache.invalidation.instance-id:}")                     String   instanceId,
+                                                 @Value("${cache.invalidation.token-flush-interval:PT5S}")         Duration tokenFlushInterval,
+                                                 @Value("${cache.invalidation.retry-backoff:PT5S}")                Duration retryBackoff) {
+
+        this.mongoTemplate      = mongoTemplate;
+        this.userCache          = userCache;
+        this.organizationCache  = organizationCache;
+        this.instanceId         = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+        this.tokenFlushInterval = tokenFlushInterval;
+        this.retryBackoff       = retryBackoff;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        for (String collection : List.of(USERS_COLLECTION, ORGANIZATION_COLLECTION)) {
+            Thread worker = new Thread(() -> watch(collection), "change-stream-" + collection);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        logger.info("Cache invalidation change streams started for instance " + instanceId);
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void watch(String collection) {
+        while (running) {
+            try {
+                tail(collection);
+            } catch (MongoCommandException e) {
+                if (e.getErrorCode() == HISTORY_LOST_ERROR || e.getErrorCode() == FATAL_STREAM_ERROR) {
+                    logger.warning("Cannot resume change stream on " + collection + ", clearing cache: " + e.getErrorMessage());
+                    deleteResumeToken(collection);
+                } else {
+                    logger.log(Level.WARNING, "Change stream on " + collection + " failed", e);
+                }
+                invalidateAll(collection);
+                backOff();
+            } catch (RuntimeException e) {
+                if (!running) return;
+                // Events may have been lost while the cursor was down
+                logger.log(Level.WARNING, "Change stream on " + collection + " failed", e);
+                invalidateAll(collection);
+                backOff();
+            }
+        }
+    }
+
+    private void tail(String collection) {
+        BsonDocument resumeToken = loadResumeToken(collection);
+
+        var stream = mongoTemplate.getCollection(collection)
+                .watch()
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+        if (resumeToken != null) {
+            stream = stream.resumeAfter(resumeToken);
+        }
+
+        try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = stream.cursor()) {
+            Instant lastFlush = Instant.now();
+            BsonDocument pending = null;
+
+            while (running) {
+                ChangeStreamDocument<Document> change = cursor.tryNext();
+                if (change != null) {
+                    if (!apply(collection, change)) {
+                        // invalidate/drop/rename close the stream; start over without a token
+                        deleteResumeToken(collection);
+                        return;
+                    }
+                }
+
+                BsonDocument current = cursor.getResumeToken();
+                if (current != null && !current.equals(resumeToken)) {
+                    pending = current;
+                }
+                // Persisting every event would turn each write into two; a short window is replayed at worst
+                if (pending != null && Instant.now().isAfter(lastFlush.plus(tokenFlushInterval))) {
+                    saveResumeToken(collection, pending);
+                    resumeToken = pending;
+                    pending     = null;
+                    lastFlush   = Instant.now();
+                }
+            }
+
+            if (pending != null) {
+                saveResumeToken(collection, pending);
+            }
+        }
+    }
+
+    /**
+     * @return false when the event terminates the stream
+     */
+    private boolean apply(String collection, ChangeStreamDocument<Document> change) {
+        OperationType type = change.getOperationType();
+        switch (type) {
+            case INSERT, UPDATE, REPLACE, DELETE -> {
+                BsonValue id = change.getDocumentKey() == null ? null : change.getDocumentKey().get("_id");
+                evict(collection, id);
+                return true;
+            }
+            case INVALIDATE, DROP, RENAME, DROP_DATABASE -> {
+                invalidateAll(collection);
+                return false;
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    private void evict(String collection, BsonValue id) {
+        if (id == null) {
+            invalidateAll(collection);
+            return;
+        }
+
+        if (USERS_COLLECTION.equals(collection)) {
+            if (id.isObjectId()) {
+                userCache.evictById(id.asObjectId().getValue());
+            } else {
+                userCache.invalidateAll();
+            }
+        } else {
+            String key = id.isObjectId() ? id.asObjectId().getValue().toHexString()
+                       : id.isString()   ? id.asString().getValue()
+                       : null;
+            if (key != null) {
+                organizationCache.evict(key);
+            } else {
+                organizationCache.invalidateAll();
+            }
+        }
+    }
+
+    private void invalidateAll(String collection) {
+        if (USERS_COLLECTION.equals(collection)) {
+            userCache.invalidateAll();
+        } else {
+            organizationCache.invalidateAll();
+        }
+    }
+
+    private BsonDocument loadResumeToken(String collection) {
+        Document stored = resumeTokens().find(eq("_id", tokenId(collection))).first();
+        if (stored == null || !(stored.get("token") instanceof Document token)) {
+            return null;
+        }
+        return token.toBsonDocument();
+    }
+
+    private void saveResumeToken(String collection, BsonDocument token) {
+        Document document = new Document("_id", tokenId(collection))
+                .append("token", Document.parse(token.toJson()))
+                .append("updatedAt", new Date());
+        resumeTokens().replaceOne(eq("_id", tokenId(collection)), document, new ReplaceOptions().upsert(true));
+    }
+
+    private void deleteResumeToken(String collection) {
+        resumeTokens().deleteOne(eq("_id", tokenId(collection)));
+    }
+
+    private MongoCollection<Document> resumeTokens() {
+        return mongoTemplate.getCollection(RESUME_TOKEN_COLLECTION);
+    }
+
+    private String tokenId(String collection) {
+        return instanceId + ":" + collection;
+    }
+
+    private void backOff() {
+        try {
+            Thread.sleep(retryBackoff.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String defaultInstanceId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return new ObjectId().toHexString();
+        }
+    }
+}
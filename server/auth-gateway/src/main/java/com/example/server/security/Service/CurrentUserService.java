@@ -0,0 +1,48 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.exception.UnauthorizedException;
+import com.example.server.security.models.userEntity;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves the {@link userEntity} of the authenticated caller.
+ * The SecurityContext normally holds only the projected AuthPrincipal, so the full entity is loaded
+ * here, on demand, and memoized on the request, so a request never reads the same user twice.
+ */
+@Service
+public class CurrentUserService {
+
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserService.class.getName() + ".currentUser";
+
+    private final CustomUserDetailsService customUserDetailsService;
+
+    public CurrentUserService(CustomUserDetailsService customUserDetailsService) {
+        this.customUserDetailsService = customUserDetailsService;
+    }
+
+    public userEntity getCurrentUser(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            throw new UnauthorizedException("Authentication required");
+        }
+
+        if (authentication.getPrincipal() instanceof userEntity user) {
+            return user;
+        }
+
+        Object memoized = request.getAttribute(CURRENT_USER_ATTRIBUTE);
+        if (memoized instanceof userEntity user) {
+            return user;
+        }
+
+        userEntity user = customUserDetailsService.loadUserEntityByEmail(authentication.getName());
+        request.setAttribute(CURRENT_USER_ATTRIBUTE, user);
+        return user;
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.server.security.Service;
 
 import com.example.server.exception.CustomExceptions.UserNotFoundException;
+import com.example.server.security.models.AuthPrincipal;
 import com.example.server.security.models.userEntity;
-import com.example.server.security.repository.UserRepository;
 import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,18 +18,49 @@ import org.springframework.stereotype.Service;
 import java.util.Optional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
-    private final UserRepository userRepository;
+    private final UserCache     userCache;
+    private final MongoTemplate mongoTemplate;
 
     @Autowired
-    public CustomUserDetailsService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomUserDetailsService(UserCache userCache, MongoTemplate mongoTemplate) {
+        this.userCache     = userCache;
+        this.mongoTemplate = mongoTemplate;
     }
 
+    /**
+     * Returns the projected {@link AuthPrincipal}, not the full document. Callers that need
+     * the entity use {@link #loadUserEntityByEmail(String)}.
+     */
     @Override
     public UserDetails loadUserByUsername(String email) throws UserNotFoundException {
-        return userRepository.findByEmail(email)
+        return userCache.findPrincipalByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("Email not found"));
     }
+
+    public userEntity loadUserEntityByEmail(String email) throws UserNotFoundException {
+        return userCache.findByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException("Email not found"));
+    }
+
+    /**
+     * Stores a re-encoded password hash. Only the password field is written, so a rehash during
+     * login cannot overwrite concurrent profile changes.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("email").is(user.getUsername())),
+                Update.update("password", newPassword),
+                userEntity.class);
+        userCache.evictByEmail(user.getUsername());
+
+        if (user instanceof userEntity entity) {
+            entity.setPassword(newPassword);
+        } else if (user instanceof AuthPrincipal principal) {
+            principal.setPassword(newPassword);
+        }
+        return user;
+    }
 }
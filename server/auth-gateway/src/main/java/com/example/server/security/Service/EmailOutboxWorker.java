@@ -0,0 +1,298 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.OutboundEmail;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drains the email outbox with a small pool of worker threads.
+ *
+ * Each worker atomically claims up to a batch of due emails (findAndModify flips them to SENDING
+ * under a lease), renders them and hands the whole batch to one JavaMailSender.send call, which
+ * delivers it over a single SMTP connection instead of one connection per email. Failed emails
+ * are retried with exponential backoff up to a maximum number of attempts. A claim whose lease
+ * expires (e.g. the node died mid-send) becomes claimable again, so delivery is at-least-once.
+ * Outcomes are only written while the claim is still the worker's own: a send that outlived its
+ * lease leaves the email to whoever claimed it next.
+ *
+ * Sent and failed emails are kept for email.outbox.retention as a delivery log, without their
+ * template variables: those hold the verification OTP, which must not outlive its use.
+ */
+@Component
+public class EmailOutboxWorker implements SmartLifecycle {
+
+    private static final Logger logger = Logger.getLogger(EmailOutboxWorker.class.getName());
+
+    private final MongoTemplate  mongoTemplate;
+    private final JavaMailSender javaMailSender;
+    private final EmailService   emailService;
+    private final int            workerCount;
+    private final int            batchSize;
+    private final int            maxAttempts;
+    private final Duration       pollInterval;
+    private final Duration       lease;
+    private final Duration       initialBackoff;
+    private final Duration       maxBackoff;
+    private final Duration       retention;
+    private final String         nodeId;
+    private final Counter        sent;
+    private final Counter        retried;
+    private final Counter        failed;
+    private final Timer          batchTime;
+    private final Timer          deliveryDelay;
+    private final List<Thread>   workers = new ArrayList<>();
+
+    private volatile boolean running = false;
+
+    public EmailOutboxWorker(MongoTemplate  mongoTemplate,
+                             JavaMailSender javaMailSender,
+                             EmailService   emailService,
+                             MeterRegistry  meterRegistry,
+                             @Value("${email.outbox.workers:2}")             int      workerCount,
+                             @Value("${email.outbox.batch-size:20}")         int      batchSize,
+                             @Value("${email.outbox.max-attempts:8}")        int      maxAttempts,
+                             @Value("${email.outbox.poll-interval:PT1S}")    Duration pollInterval,
+                             @Value("${email.outbox.lease:PT2M}")            Duration lease,
+                             @Value("${email.outbox.initial-backoff:PT5S}")  Duration initialBackoff,
+                             @Value("${email.outbox.max-backoff:PT30M}")     Duration maxBackoff,
+                             @Value("${email.outbox.retention:P7D}")         Duration retention) {
+
+        this.mongoTemplate  = mongoTemplate;
+        this.javaMailSender = javaMailSender;
+        this.emailService   = emailService;
+        this.workerCount    = workerCount;
+        this.batchSize      = batchSize;
+        this.maxAttempts    = maxAttempts;
+        this.pollInterval   = pollInterval;
+        this.lease          = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff     = maxBackoff;
+        this.retention      = retention;
+        this.nodeId         = hostName();
+        this.sent           = Counter.builder("email.outbox.sent").register(meterRegistry);
+        this.retried        = Counter.builder("email.outbox.retried").register(meterRegistry);
+        this.failed         = Counter.builder("email.outbox.failed").register(meterRegistry);
+        this.batchTime      = Timer.builder("email.outbox.batch").register(meterRegistry);
+        this.deliveryDelay  = Timer.builder("email.outbox.delivery.delay").register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+
+        mongoTemplate.indexOps(OutboundEmail.class)
+                .createIndex(new Index().on("status", Sort.Direction.ASC).on("nextAttemptAt", Sort.Direction.ASC));
+        mongoTemplate.indexOps(OutboundEmail.class)
+                .createIndex(new Index().on("status", Sort.Direction.ASC).on("lockedUntil", Sort.Direction.ASC));
+        mongoTemplate.indexOps(OutboundEmail.class)
+                .createIndex(new Index("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO));
+
+        running = true;
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::work, "email-outbox-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (drainOnce() == 0) {
+                    Thread.sleep(pollInterval.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Email outbox worker failed, retrying", e);
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims and sends one batch.
+     *
+     * @return number of emails claimed
+     */
+    int drainOnce() {
+        List<OutboundEmail> batch = new ArrayList<>(batchSize);
+        OutboundEmail claimed;
+        while (batch.size() < batchSize && (claimed = claimNext()) != null) {
+            batch.add(claimed);
+        }
+        if (!batch.isEmpty()) {
+            batchTime.record(() -> send(batch));
+        }
+        return batch.size();
+    }
+
+    private OutboundEmail claimNext() {
+        Instant now = Instant.now();
+        Query due = Query.query(new Criteria().orOperator(
+                        Criteria.where("status").is(OutboundEmail.Status.PENDING).and("nextAttemptAt").lte(now),
+                        Criteria.where("status").is(OutboundEmail.Status.SENDING).and("lockedUntil").lt(now)))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+
+        Update claim = new Update()
+                .set("status", OutboundEmail.Status.SENDING)
+                .set("lockedUntil", now.plus(lease))
+                .set("lockedBy", nodeId + "/" + Thread.currentThread().getName())
+                .inc("attempts", 1);
+
+        return mongoTemplate.findAndModify(due, claim, FindAndModifyOptions.options().returnNew(true), OutboundEmail.class);
+    }
+
+    private void send(List<OutboundEmail> batch) {
+        Map<MimeMessage, OutboundEmail> messages = new IdentityHashMap<>();
+        for (OutboundEmail email : batch) {
+            try {
+                messages.put(emailService.render(email), email);
+            } catch (Exception e) {
+                markFailed(email, e);
+            }
+        }
+        if (messages.isEmpty()) return;
+
+        Map<Object, Exception> failures = Map.of();
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // Per-message failures; messages not listed were delivered
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing was sent
+            failures = allFailed(messages, e);
+        }
+
+        for (Map.Entry<MimeMessage, OutboundEmail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                markSent(entry.getValue());
+            } else {
+                markFailed(entry.getValue(), failure);
+            }
+        }
+    }
+
+    private void markSent(OutboundEmail email) {
+        Instant now = Instant.now();
+        UpdateResult result = mongoTemplate.updateFirst(byClaim(email), new Update()
+                .set("status", OutboundEmail.Status.SENT)
+                .set("sentAt", now)
+                .set("expiresAt", now.plus(retention))
+                .unset("variables")
+                .unset("lockedUntil")
+                .unset("lockedBy"), OutboundEmail.class);
+
+        // Delivered either way; the new owner will deliver it once more
+        sent.increment();
+        if (result.getMatchedCount() == 0) {
+            logger.warning("Lease on email " + email.getId() + " expired during the send, it may be delivered twice");
+        }
+        if (email.getCreatedAt() != null) {
+            deliveryDelay.record(Duration.between(email.getCreatedAt(), now));
+        }
+    }
+
+    private void markFailed(OutboundEmail email, Exception cause) {
+        Instant now    = Instant.now();
+        Update  update = new Update()
+                .set("lastError", String.valueOf(cause.getMessage()))
+                .unset("lockedUntil")
+                .unset("lockedBy");
+
+        boolean giveUp = email.getAttempts() >= maxAttempts;
+        if (giveUp) {
+            update.set("status", OutboundEmail.Status.FAILED).set("expiresAt", now.plus(retention)).unset("variables");
+        } else {
+            update.set("status", OutboundEmail.Status.PENDING).set("nextAttemptAt", now.plus(backoff(email.getAttempts())));
+        }
+
+        if (mongoTemplate.updateFirst(byClaim(email), update, OutboundEmail.class).getMatchedCount() == 0) {
+            logger.warning("Lease on email " + email.getId() + " expired during the send, leaving it to its new owner");
+        } else if (giveUp) {
+            failed.increment();
+            logger.warning("Giving up on email to " + email.getTo() + " after " + email.getAttempts() + " attempts: " + cause.getMessage());
+        } else {
+            retried.increment();
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        long factor = 1L << Math.min(attempts - 1, 20);
+        Duration delay = initialBackoff.multipliedBy(factor);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, OutboundEmail> messages, Exception cause) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.keySet().forEach(message -> failures.put(message, cause));
+        return failures;
+    }
+
+    /**
+     * Matches the email only while this claim holds it. Every claim increments attempts, so a
+     * re-claim by the same worker name still does not match.
+     */
+    private static Query byClaim(OutboundEmail email) {
+        return Query.query(Criteria.where("_id").is(email.getId())
+                .and("status").is(OutboundEmail.Status.SENDING)
+                .and("lockedBy").is(email.getLockedBy())
+                .and("attempts").is(email.getAttempts()));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,69 +1,101 @@
 package com.example.server.security.Service;
 
+import com.example.server.security.models.OutboundEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
+/**
+ * Queues outbound emails in the "emailOutbox" collection; {@link EmailOutboxWorker} delivers them.
+ * Callers return as soon as the document is written, so request latency no longer depends
+ * on the SMTP server.
+ */
 @Service
 public class EmailService {
     private static final Logger logger = Logger.getLogger(EmailService.class.getName());
-    private final JavaMailSender javaMailSender;
 
-    @Autowired
-    public EmailService(JavaMailSender javaMailSender) {
-        this.javaMailSender = javaMailSender;
-    }
+    static final String VERIFICATION_TEMPLATE = "verification";
 
-    @Async
-    public void sendEmail(MimeMessage email) {
-        javaMailSender.send(email);
-    }
+    private static final String VERIFICATION_HTML = "<html>" +
+            "<body style='font-family: Arial, sans-serif;'>" +
+            "<div style='max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #e0e0e0; border-radius: 5px;'>" +
+            "<h1 style='color:#3f51b5; text-align: center;'>Welcome to Evalia</h1>" +
+            "<p>Thank you for registering. To complete your registration, please verify your email with the OTP below:</p>" +
+            "<div style='background-color: #f5f5f5; padding: 15px; text-align: center; margin: 20px 0;'>" +
+            "<h2 style='color:#3f51b5; letter-spacing: 5px;'>{{otp}}</h2>" +
+            "</div>" +
+            "<p>This OTP will expire in 10 minutes.</p>" +
+            "<p>If you did not request this, please ignore this email.</p>" +
+            "<p>Thank you,<br/>The Evalia Team</p>" +
+            "</div>" +
+            "</body>" +
+            "</html>";
+
+    private final JavaMailSender             javaMailSender;
+    private final MongoTemplate              mongoTemplate;
+    private final Map<String, EmailTemplate> templates;
+    private final Counter                    enqueued;
 
-    public MimeMessage createMimeMessage() {
-        return javaMailSender.createMimeMessage();
+    @Autowired
+    public EmailService(JavaMailSender javaMailSender, MongoTemplate mongoTemplate, MeterRegistry meterRegistry) {
+        this.javaMailSender = javaMailSender;
+        this.mongoTemplate  = mongoTemplate;
+        this.templates      = Map.of(VERIFICATION_TEMPLATE, EmailTemplate.compile(VERIFICATION_HTML));
+        this.enqueued       = Counter.builder("email.outbox.enqueued").register(meterRegistry);
     }
 
     /**
-     * Sends verification email with OTP
-     * 
+     * Queues the verification email with the OTP.
+     *
      * @param to  recipient email address
      * @param otp one-time password for verification
-     * @throws MessagingException if email cannot be sent
      */
-    public void sendVerificationEmail(String to, String otp) throws MessagingException {
+    public void sendVerificationEmail(String to, String otp) {
+        logger.info("Queueing verification email to: " + to);
+        enqueue(to, "Evalia - Complete Your Registration", VERIFICATION_TEMPLATE, Map.of("otp", otp));
+    }
 
-        logger.info("Sending verification email to: " + to + " with OTP: " + otp);
+    /**
+     * Builds the MIME message for a queued email from its precompiled template.
+     */
+    MimeMessage render(OutboundEmail email) throws MessagingException {
+        EmailTemplate template = templates.get(email.getTemplate());
+        if (template == null) {
+            throw new MessagingException("Unknown email template: " + email.getTemplate());
+        }
 
-        MimeMessage mimeMessage = createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+        MimeMessage       mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper      = new MimeMessageHelper(mimeMessage, true);
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(template.render(email.getVariables()), true);
+        return mimeMessage;
+    }
 
-        helper.setTo(to);
-        helper.setSubject("Evalia - Complete Your Registration");
+    private void enqueue(String to, String subject, String template, Map<String, String> variables) {
+        Instant now = Instant.now();
 
-        String htmlContent = "<html>" +
-                "<body style='font-family: Arial, sans-serif;'>" +
-                "<div style='max-width: 600px; margin: 0 auto; padding: 20px; border: 1px solid #e0e0e0; border-radius: 5px;'>"
-                +
-                "<h1 style='color:#3f51b5; text-align: center;'>Welcome to Evalia</h1>" +
-                "<p>Thank you for registering. To complete your registration, please verify your email with the OTP below:</p>"
-                +
-                "<div style='background-color: #f5f5f5; padding: 15px; text-align: center; margin: 20px 0;'>" +
-                "<h2 style='color:#3f51b5; letter-spacing: 5px;'>" + otp + "</h2>" +
-                "</div>" +
-                "<p>This OTP will expire in 10 minutes.</p>" +
-                "<p>If you did not request this, please ignore this email.</p>" +
-                "<p>Thank you,<br/>The Evalia Team</p>" +
-                "</div>" +
-                "</body>" +
-                "</html>";
+        OutboundEmail email = new OutboundEmail();
+        email.setTo(to);
+        email.setSubject(subject);
+        email.setTemplate(template);
+        email.setVariables(new HashMap<>(variables));
+        email.setStatus(OutboundEmail.Status.PENDING);
+        email.setNextAttemptAt(now);
+        email.setCreatedAt(now);
 
-        helper.setText(htmlContent, true);
-        sendEmail(mimeMessage);
+        mongoTemplate.insert(email);
+        enqueued.increment();
     }
 }
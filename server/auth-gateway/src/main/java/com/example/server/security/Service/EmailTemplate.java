@@ -0,0 +1,65 @@
+package com.example.server.security.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An HTML template with {{name}} placeholders, split once into literal and placeholder parts so
+ * rendering is a single pass into a pre-sized buffer. Values are HTML-escaped.
+ */
+final class EmailTemplate {
+
+    private final List<String>  literals;      // one more than placeholders
+    private final List<String>  placeholders;
+    private final int           literalLength;
+
+    private EmailTemplate(List<String> literals, List<String> placeholders) {
+        this.literals      = literals;
+        this.placeholders  = placeholders;
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    static EmailTemplate compile(String source) {
+        List<String> literals     = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+            if (close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + 2, close).trim());
+            position = close + 2;
+        }
+        return new EmailTemplate(List.copyOf(literals), List.copyOf(placeholders));
+    }
+
+    String render(Map<String, String> variables) {
+        StringBuilder html = new StringBuilder(literalLength + 16 * placeholders.size());
+        for (int i = 0; i < placeholders.size(); i++) {
+            html.append(literals.get(i));
+            escape(variables.getOrDefault(placeholders.get(i), ""), html);
+        }
+        html.append(literals.get(placeholders.size()));
+        return html.toString();
+    }
+
+    private static void escape(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<'  -> out.append("&lt;");
+                case '>'  -> out.append("&gt;");
+                case '&'  -> out.append("&amp;");
+                case '"'  -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default   -> out.append(c);
+            }
+        }
+    }
+}
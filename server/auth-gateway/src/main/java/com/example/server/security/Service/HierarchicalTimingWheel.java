@@ -0,0 +1,175 @@
+package com.example.server.security.Service;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical timing wheel (as in Kafka's purgatory) for cheap, coarse expiry callbacks.
+ *
+ * Level 0 has wheelSize buckets of one tick each; every next level has buckets as wide as the
+ * whole level below. Scheduling is O(1): a task goes into the bucket of the lowest level whose
+ * span covers its deadline. A single ticker thread flushes buckets whose time has come and
+ * re-inserts their tasks, which then cascade into finer levels or run. Tasks run on the ticker
+ * thread and must be short. Precision is one tick.
+ */
+final class HierarchicalTimingWheel implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(HierarchicalTimingWheel.class.getName());
+
+    private final long                     tickMs;
+    private final TimingWheel              wheel;
+    private final ScheduledExecutorService ticker;
+
+    HierarchicalTimingWheel(Duration tick, int wheelSize, String threadName) {
+        this.tickMs = Math.max(1, tick.toMillis());
+        this.wheel  = new TimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    void schedule(Duration delay, Runnable task) {
+        TimerTask entry = new TimerTask(System.currentTimeMillis() + Math.max(0, delay.toMillis()), task);
+        if (!wheel.add(entry)) {
+            ticker.execute(entry::run);
+        }
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void advance() {
+        long now = System.currentTimeMillis();
+        wheel.advanceClock(now);
+        wheel.flushExpired(now, entry -> {
+            if (!wheel.add(entry)) {
+                entry.run();
+            }
+        });
+    }
+
+    private record TimerTask(long deadlineMs, Runnable task) {
+        void run() {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Timer task failed", e);
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final Queue<TimerTask> tasks      = new ConcurrentLinkedQueue<>();
+        private final AtomicLong       expiration = new AtomicLong(-1);
+    }
+
+    private interface Reinsert {
+        void accept(TimerTask entry);
+    }
+
+    private static final class TimingWheel {
+
+        private final long     tickMs;
+        private final int      wheelSize;
+        private final long     intervalMs;
+        private final Bucket[] buckets;
+        private final ReentrantLock overflowLock = new ReentrantLock();
+
+        private volatile long        currentTimeMs;
+        private volatile TimingWheel overflowWheel;
+
+        TimingWheel(long tickMs, int wheelSize, long startMs) {
+            this.tickMs        = tickMs;
+            this.wheelSize     = wheelSize;
+            this.intervalMs    = tickMs * wheelSize;
+            this.currentTimeMs = startMs - (startMs % tickMs);
+            this.buckets       = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        /**
+         * @return false when the task is already due and should run now
+         */
+        boolean add(TimerTask entry) {
+            long deadline = entry.deadlineMs();
+            long current  = currentTimeMs;
+
+            if (deadline < current + tickMs) {
+                return false;
+            }
+            if (deadline < current + intervalMs) {
+                long   virtualId = deadline / tickMs;
+                Bucket bucket    = buckets[(int) (virtualId % wheelSize)];
+                bucket.tasks.add(entry);
+                // The slot may still hold overdue tasks of the previous rotation; keep the earlier expiration
+                bucket.expiration.accumulateAndGet(virtualId * tickMs,
+                        (armed, next) -> armed >= 0 && armed < next ? armed : next);
+                return true;
+            }
+            return overflow().add(entry);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTimeMs + tickMs) {
+                currentTimeMs = timeMs - (timeMs % tickMs);
+                TimingWheel overflow = overflowWheel;
+                if (overflow != null) {
+                    overflow.advanceClock(currentTimeMs);
+                }
+            }
+        }
+
+        /**
+         * Drains every bucket, on this level and above, whose slot has started.
+         * A bucket's expiration is cleared before draining so a concurrent add re-arms it.
+         */
+        void flushExpired(long nowMs, Reinsert reinsert) {
+            for (Bucket bucket : buckets) {
+                long expiration = bucket.expiration.get();
+                if (expiration >= 0 && expiration <= nowMs && bucket.expiration.compareAndSet(expiration, -1)) {
+                    TimerTask entry;
+                    while ((entry = bucket.tasks.poll()) != null) {
+                        reinsert.accept(entry);
+                    }
+                }
+            }
+            TimingWheel overflow = overflowWheel;
+            if (overflow != null) {
+                overflow.flushExpired(nowMs, reinsert);
+            }
+        }
+
+        private TimingWheel overflow() {
+            TimingWheel overflow = overflowWheel;
+            if (overflow == null) {
+                // A lock rather than a monitor: waiting on it never pins a virtual thread
+                overflowLock.lock();
+                try {
+                    overflow = overflowWheel;
+                    if (overflow == null) {
+                        overflow = new TimingWheel(intervalMs, wheelSize, currentTimeMs);
+                        overflowWheel = overflow;
+                    }
+                } finally {
+                    overflowLock.unlock();
+                }
+            }
+            return overflow;
+        }
+    }
+}
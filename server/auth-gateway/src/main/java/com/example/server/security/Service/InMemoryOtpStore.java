@@ -0,0 +1,57 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.ConfirmationToken;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local OTP store: one map entry per email, expired by a hierarchical timing wheel
+ * so expiry costs O(1) per token instead of periodic scans. Tokens are lost on restart and
+ * not visible to other nodes, so this is only suitable for a single instance.
+ */
+@Service
+@ConditionalOnProperty(name = "auth.otp.store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore {
+
+    private final Map<String, ConfirmationToken> tokensByEmail = new ConcurrentHashMap<>();
+    private final HierarchicalTimingWheel        expiryWheel;
+
+    public InMemoryOtpStore(@Value("${auth.otp.memory.tick:PT1S}")     Duration tick,
+                            @Value("${auth.otp.memory.wheel-size:64}") int      wheelSize) {
+
+        this.expiryWheel = new HierarchicalTimingWheel(tick, wheelSize, "otp-expiry");
+    }
+
+    @Override
+    public void save(ConfirmationToken token) {
+        tokensByEmail.put(token.getUserEmail(), token);
+
+        Duration ttl = Duration.between(LocalDateTime.now(), token.getExpiryDate());
+        // Removes only this token; a newer one for the same email stays
+        expiryWheel.schedule(ttl, () -> tokensByEmail.remove(token.getUserEmail(), token));
+    }
+
+    @Override
+    public Optional<ConfirmationToken> find(String email, String token) {
+        ConfirmationToken stored = tokensByEmail.get(email);
+        return stored != null && stored.getToken().equals(token) ? Optional.of(stored) : Optional.empty();
+    }
+
+    @Override
+    public void delete(ConfirmationToken token) {
+        tokensByEmail.remove(token.getUserEmail(), token);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        expiryWheel.close();
+    }
+}
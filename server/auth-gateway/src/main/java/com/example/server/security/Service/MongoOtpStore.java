@@ -0,0 +1,57 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.ConfirmationToken;
+import com.example.server.security.repository.ConfirmationTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * OTPs in the "tokens" collection. Lookups use the compound (userEmail, token) index and
+ * MongoDB removes expired tokens through a TTL index on expiryDate, so the collection stays
+ * bounded by the number of pending verifications.
+ */
+@Service
+@ConditionalOnProperty(name = "auth.otp.store", havingValue = "mongo", matchIfMissing = true)
+public class MongoOtpStore implements OtpStore {
+
+    private final ConfirmationTokenRepository confirmationTokenRepository;
+    private final MongoTemplate               mongoTemplate;
+
+    public MongoOtpStore(ConfirmationTokenRepository confirmationTokenRepository,
+                         MongoTemplate               mongoTemplate) {
+
+        this.confirmationTokenRepository = confirmationTokenRepository;
+        this.mongoTemplate               = mongoTemplate;
+    }
+
+    @PostConstruct
+    void createIndexes() {
+        mongoTemplate.indexOps(ConfirmationToken.class)
+                .createIndex(new Index().on("userEmail", Sort.Direction.ASC).on("token", Sort.Direction.ASC));
+        mongoTemplate.indexOps(ConfirmationToken.class)
+                .createIndex(new Index("expiryDate", Sort.Direction.ASC).expire(Duration.ZERO));
+    }
+
+    @Override
+    public void save(ConfirmationToken token) {
+        confirmationTokenRepository.deleteByUserEmail(token.getUserEmail());
+        confirmationTokenRepository.save(token);
+    }
+
+    @Override
+    public Optional<ConfirmationToken> find(String email, String token) {
+        return confirmationTokenRepository.findByUserEmailAndToken(email, token);
+    }
+
+    @Override
+    public void delete(ConfirmationToken token) {
+        confirmationTokenRepository.deleteById(token.getId());
+    }
+}
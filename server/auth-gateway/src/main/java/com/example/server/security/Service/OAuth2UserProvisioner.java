@@ -0,0 +1,120 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.Role;
+import com.example.server.security.models.userEntity;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Creates or links the local user for a social (OAuth2/OIDC) login in one atomic
+ * findAndModify upsert, instead of find + role lookup + save.
+ *
+ * The update is an aggregation pipeline so it can be conditional on the stored document:
+ *   - a new user gets name, username, the default role and timestamps,
+ *   - an existing user without a provider is linked (provider, providerId) and marked
+ *     enabled and verified, exactly like the previous find-then-save code,
+ *   - an already linked user is left unchanged.
+ * A unique index on email makes concurrent first logins converge on one document; the
+ * loser of the race gets a duplicate key error and simply retries as an update.
+ */
+@Service
+public class OAuth2UserProvisioner {
+
+    private static final Logger logger = Logger.getLogger(OAuth2UserProvisioner.class.getName());
+
+    private final MongoTemplate mongoTemplate;
+    private final RoleRegistry  roleRegistry;
+    private final UserCache     userCache;
+
+    public OAuth2UserProvisioner(MongoTemplate mongoTemplate,
+                                 RoleRegistry  roleRegistry,
+                                 UserCache     userCache) {
+
+        this.mongoTemplate = mongoTemplate;
+        this.roleRegistry  = roleRegistry;
+        this.userCache     = userCache;
+    }
+
+    @PostConstruct
+    void createIndexes() {
+        try {
+            mongoTemplate.indexOps(userEntity.class)
+                    .createIndex(new Index("email", Sort.Direction.ASC).unique());
+        } catch (RuntimeException e) {
+            // Existing duplicate emails must be cleaned up first; provisioning still works without it
+            logger.log(Level.WARNING, "Could not create unique index on users.email", e);
+        }
+    }
+
+    public userEntity provision(String email, String name, String provider, String providerId) {
+        try {
+            return upsert(email, name, provider, providerId);
+        } catch (DuplicateKeyException e) {
+            // A concurrent first login inserted the user between our match and insert
+            return upsert(email, name, provider, providerId);
+        }
+    }
+
+    private userEntity upsert(String email, String name, String provider, String providerId) {
+        Role defaultRole = roleRegistry.findByName(RoleRegistry.DEFAULT_ROLE)
+                .orElseThrow(() -> new RuntimeException("Default role not found"));
+
+        // Same condition as before: not yet linked when provider is missing or empty
+        Document unlinked = new Document("$in", Arrays.asList(
+                new Document("$ifNull", Arrays.asList("$provider", "")), List.of("")));
+        Date now = new Date();
+
+        Document set = new Document()
+                .append("name",          ifNull("$name", name))
+                .append("username",      ifNull("$username", email))
+                .append("roles",         ifNull("$roles", List.of(new Document("_id", defaultRole.getId())
+                                                                     .append("name", defaultRole.getName()))))
+                .append("createdAt",     ifNull("$createdAt", now))
+                .append("updatedAt",     ifNull("$updatedAt", now))
+                .append("provider",      cond(unlinked, provider, "$provider"))
+                .append("providerId",    cond(unlinked, providerId, "$providerId"))
+                .append("enabled",       cond(unlinked, true, "$enabled"))
+                .append("emailVerified", cond(unlinked, true, "$emailVerified"))
+                .append("_class",        ifNull("$_class", userEntity.class.getName()));
+
+        AggregationUpdate update = AggregationUpdate.from(List.of(context -> new Document("$set", set)));
+
+        userEntity user = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("email").is(email)),
+                update,
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                userEntity.class);
+
+        // findAndModify bypasses the save events that normally evict the cache
+        userCache.evictByEmail(email);
+        return user;
+    }
+
+    private static Document ifNull(String field, Object fallback) {
+        return new Document("$ifNull", Arrays.asList(field, literal(fallback)));
+    }
+
+    private static Document cond(Document condition, Object then, String otherwise) {
+        return new Document("$cond", Arrays.asList(condition, literal(then), otherwise));
+    }
+
+    // Keeps values such as "$..." strings from being read as field paths
+    private static Document literal(Object value) {
+        return new Document("$literal", value);
+    }
+}
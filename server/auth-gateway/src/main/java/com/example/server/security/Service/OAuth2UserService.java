@@ -1,9 +1,6 @@
 package com.example.server.security.Service;
 
-import com.example.server.security.models.Role;
 import com.example.server.security.models.userEntity;
-import com.example.server.security.repository.RoleRepository;
-import com.example.server.security.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,44 +14,35 @@ import org.springframework.stereotype.Service;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @Service
 public class OAuth2UserService extends DefaultOAuth2UserService {
 
-    private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
+    private static final Logger logger = Logger.getLogger(OAuth2UserService.class.getName());
+
+    private final OAuth2UserProvisioner oAuth2UserProvisioner;
 
     @Autowired
-    public OAuth2UserService(UserRepository userRepository, RoleRepository roleRepository) {
-        this.userRepository = userRepository;
-        this.roleRepository = roleRepository;
+    public OAuth2UserService(OAuth2UserProvisioner oAuth2UserProvisioner) {
+        this.oAuth2UserProvisioner = oAuth2UserProvisioner;
     }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(userRequest);
 
-        String provider = userRequest.getClientRegistration().getRegistrationId();
-        System.out.println("=== OAuth2 Login Debug Info ===");
-        System.out.println("OAuth2 Provider: " + provider);
-        System.out.println("OAuth2 Attributes: " + oAuth2User.getAttributes());
-        System.out.println("Client Registration: " + userRequest.getClientRegistration().getClientName());
-
         try {
-            OAuth2User result = processOAuth2User(userRequest, oAuth2User);
-            System.out.println("OAuth2 user processing completed successfully");
-            return result;
+            return processOAuth2User(userRequest, oAuth2User);
         } catch (Exception ex) {
-            System.err.println("Error in OAuth2 loadUser: " + ex.getMessage());
-            ex.printStackTrace(); // Enhanced error logging
+            logger.log(Level.WARNING, "Error in OAuth2 loadUser", ex);
             throw new InternalAuthenticationServiceException(ex.getMessage(), ex.getCause());
         }
     }
 
     private OAuth2User processOAuth2User(OAuth2UserRequest oAuth2UserRequest, OAuth2User oAuth2User) {
         String provider = oAuth2UserRequest.getClientRegistration().getRegistrationId();
-        System.out.println("Processing user for provider: " + provider);
 
         // Extract attributes based on the provider
         Map<String, Object> attributes = oAuth2User.getAttributes();
@@ -62,68 +50,23 @@ public class OAuth2UserService extends DefaultOAuth2UserService {
         String name = getNameFromAttributes(attributes, provider);
         String providerId = getIdFromAttributes(attributes, provider);
 
-        System.out.println("Extracted email: " + email);
-        System.out.println("Extracted name: " + name);
-        System.out.println("Extracted providerId: " + providerId);
-
         if (email == null || email.isEmpty()) {
             throw new OAuth2AuthenticationException("Email not found from OAuth2 provider");
         }
 
-        try {
-            // Check if user exists
-            Optional<userEntity> userOptional = userRepository.findByEmail(email);
-            userEntity user;
-
-            if (userOptional.isPresent()) {
-                // Update existing user with OAuth2 details if needed
-                user = userOptional.get();
-                System.out.println("Found existing user: " + user.getEmail());
-
-                // Update provider info if not set
-                if (user.getProvider() == null || user.getProvider().isEmpty()) {
-                    user.setProvider(provider);
-                    user.setProviderId(providerId);
-                    user.setEnabled(true);
-                    user.setEmailVerified(true); // OAuth2 users are auto-verified
-                    user = userRepository.save(user);
-                    System.out.println("Updated existing user with OAuth2 details");
-                }
-            } else {
-                // Create a new user with OAuth2 details
-                System.out.println("Creating new user with email: " + email);
-                user = new userEntity();
-                user.setEmail(email);
-                user.setName(name);
-                user.setUsername(email); // Using email as username
-                user.setProvider(provider);
-                user.setProviderId(providerId);
-                user.setEnabled(true); // OAuth2 users are auto-verified
-                user.setEmailVerified(true); // OAuth2 users are auto-verified
-
-                // Set a default role
-                Role userRole = roleRepository.findByName("USER")
-                        .orElseThrow(() -> new RuntimeException("Default role not found"));
-                user.setRoles(Collections.singletonList(userRole));
-
-                user = userRepository.save(user);
-                System.out.println("New user created with ID: " + user.getId());
-            }
+        // Creates the user, or links an existing account to this provider, in one round trip
+        userEntity user = oAuth2UserProvisioner.provision(email, name, provider, providerId);
+        logger.fine(() -> "OAuth2 login via " + provider + " for user " + user.getId());
 
-            // Create a new OAuth2User with our custom attributes
-            Map<String, Object> customAttributes = new HashMap<>(attributes);
-            customAttributes.put("userId", user.getId());
-
-            return new DefaultOAuth2User(
-                    Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
-                    customAttributes,
-                    oAuth2UserRequest.getClientRegistration().getProviderDetails().getUserInfoEndpoint()
-                            .getUserNameAttributeName());
-        } catch (Exception e) {
-            System.err.println("Error processing OAuth2 user: " + e.getMessage());
-            e.printStackTrace();
-            throw e; // Re-throw to be caught by the calling method
-        }
+        // Create a new OAuth2User with our custom attributes
+        Map<String, Object> customAttributes = new HashMap<>(attributes);
+        customAttributes.put("userId", user.getId());
+
+        return new DefaultOAuth2User(
+                Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
+                customAttributes,
+                oAuth2UserRequest.getClientRegistration().getProviderDetails().getUserInfoEndpoint()
+                        .getUserNameAttributeName());
     }
 
     private String getEmailFromAttributes(Map<String, Object> attributes, String provider) {
@@ -0,0 +1,22 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.ConfirmationToken;
+
+import java.util.Optional;
+
+/**
+ * Storage for email verification OTPs. A user has at most one live OTP: saving a new one
+ * replaces any earlier token for the same email, and lookups are scoped by email so a
+ * 4-digit code never matches another user's token.
+ *
+ * Selected with "auth.otp.store": "mongo" (default, shared by all nodes) or "memory"
+ * (single node only, e.g. local development).
+ */
+public interface OtpStore {
+
+    void save(ConfirmationToken token);
+
+    Optional<ConfirmationToken> find(String email, String token);
+
+    void delete(ConfirmationToken token);
+}
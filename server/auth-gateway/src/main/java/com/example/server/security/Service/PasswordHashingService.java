@@ -0,0 +1,120 @@
+package com.example.server.security.Service;
+
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the CPU-heavy {@link PasswordEncoder} work (login, registration) on its own small pool,
+ * sized to the core count, instead of on Tomcat request threads. A login storm then queues here
+ * rather than taking the CPU from threads serving proxied traffic; once the queue is full new
+ * requests fail fast with a 503 instead of piling up.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder    passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration           timeout;
+    private final Timer              encodeWait;
+    private final Timer              matchesWait;
+    private final Timer              encodeTime;
+    private final Timer              matchesTime;
+    private final Counter            rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry   meterRegistry,
+                                  @Value("${password.hashing.threads:0}")         int      threads,
+                                  @Value("${password.hashing.queue-capacity:64}") int      queueCapacity,
+                                  @Value("${password.hashing.timeout:PT10S}")     Duration timeout) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout         = timeout;
+        this.executor        = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeWait  = Timer.builder("password.hash.queue.wait").tag("operation", "encode").register(meterRegistry);
+        this.matchesWait = Timer.builder("password.hash.queue.wait").tag("operation", "matches").register(meterRegistry);
+        this.encodeTime  = Timer.builder("password.hash.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchesTime = Timer.builder("password.hash.duration").tag("operation", "matches").register(meterRegistry);
+        this.rejected    = Counter.builder("password.hash.rejected").register(meterRegistry);
+        meterRegistry.gauge("password.hash.queue.size", executor, e -> e.getQueue().size());
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeWait, encodeTime);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesWait, matchesTime);
+    }
+
+    /**
+     * True when the stored hash was made with weaker parameters than the encoder now uses.
+     * Only inspects the hash prefix, so it runs on the caller's thread.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> work, Timer queueWait, Timer hashTime) {
+        long enqueued = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueued, TimeUnit.NANOSECONDS);
+                return hashTime.recordCallable(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please try again shortly");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Too many sign-in requests, please try again shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password check was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.Role;
+import com.example.server.security.models.RoleAuthorities;
+import com.example.server.security.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * In-memory copy of the "Role" collection. Roles are a handful of documents that change
+ * only through administration, so registration, role updates and social logins read them
+ * from here instead of querying MongoDB each time.
+ */
+@Component
+public class RoleRegistry {
+
+    private static final Logger logger = Logger.getLogger(RoleRegistry.class.getName());
+
+    public static final String DEFAULT_ROLE = "USER";
+
+    private final RoleRepository    roleRepository;
+    private final Map<String, Role> rolesByName = new ConcurrentHashMap<>();
+
+    public RoleRegistry(RoleRepository roleRepository) {
+        this.roleRepository = roleRepository;
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${roles.refresh-interval:PT10M}",
+               initialDelayString = "${roles.refresh-interval:PT10M}")
+    public void refresh() {
+        Map<String, Role> loaded = new ConcurrentHashMap<>();
+        for (Role role : roleRepository.findAll()) {
+            if (role.getName() != null) {
+                loaded.put(role.getName(), role);
+                RoleAuthorities.intern(role.getName());
+            }
+        }
+        rolesByName.putAll(loaded);
+        rolesByName.keySet().retainAll(loaded.keySet());
+        logger.info("Loaded " + loaded.size() + " roles");
+    }
+
+    /**
+     * Falls back to the database for a role created since the last refresh.
+     */
+    public Optional<Role> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        Role role = rolesByName.get(name);
+        if (role != null) {
+            return Optional.of(role);
+        }
+
+        Optional<Role> loaded = roleRepository.findByName(name);
+        loaded.ifPresent(found -> {
+            rolesByName.put(found.getName(), found);
+            RoleAuthorities.intern(found.getName());
+        });
+        return loaded;
+    }
+}
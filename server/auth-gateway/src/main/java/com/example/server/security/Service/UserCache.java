@@ -0,0 +1,217 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.userEntity;
+import com.example.server.security.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local read-through cache of user documents, addressable by email and by ObjectId.
+ *
+ * Writes never go through the cache: every save of a userEntity publishes a Mongo
+ * AfterSaveEvent which {@link UserCacheEvictionListener} turns into an eviction, so the next
+ * read goes back to MongoDB. Callers always receive a private copy, because controllers
+ * mutate the returned entity (saved/applied jobs) before saving it.
+ *
+ * Authentication reads the projected {@link AuthPrincipal} instead, kept in its own cache so
+ * the security path never holds the full documents. Principals are copied as well, since
+ * a password rehash sets the new hash on the returned instance, and are evicted together
+ * with the entity.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository                userRepository;
+    private final Cache<String, userEntity>     usersByEmail;
+    private final Cache<ObjectId, userEntity>   usersById;
+    private final Cache<String, AuthPrincipal>  principalsByEmail;
+    private final AtomicLong                    generation = new AtomicLong();
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry  meterRegistry,
+                     @Value("${user.cache.max-size:10000}") long     maxSize,
+                     @Value("${user.cache.ttl:PT5M}")        Duration ttl) {
+
+        this.userRepository = userRepository;
+        this.usersByEmail   = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.usersById      = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.principalsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "users.by-email");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, principalsByEmail, "users.principals");
+    }
+
+    /*
+     * Misses are loaded outside the caches' compute methods: a Mongo read inside one would run
+     * while holding a map lock and pin the carrier of a virtual thread. Concurrent misses for
+     * the same key may each read once, which is harmless for these lookups.
+     *
+     * A load must not put back a document it read before a write: every eviction bumps the
+     * generation before invalidating, and a load that sees the generation moved after storing
+     * its result removes it again.
+     */
+
+    public Optional<userEntity> findByEmail(String email) {
+        userEntity cached = usersByEmail.getIfPresent(email);
+        if (cached == null) {
+            long loadGeneration = generation.get();
+            cached = userRepository.findByEmail(email).orElse(null);
+            if (cached != null) {
+                store(cached, loadGeneration);
+            }
+        }
+        return Optional.ofNullable(cached).map(UserCache::copyOf);
+    }
+
+    public Optional<AuthPrincipal> findPrincipalByEmail(String email) {
+        AuthPrincipal cached = principalsByEmail.getIfPresent(email);
+        if (cached == null) {
+            long loadGeneration = generation.get();
+            cached = userRepository.findPrincipalByEmail(email).orElse(null);
+            if (cached != null) {
+                principalsByEmail.put(email, cached);
+                if (generation.get() != loadGeneration) {
+                    principalsByEmail.invalidate(email);
+                }
+            }
+        }
+        return Optional.ofNullable(cached).map(UserCache::copyOf);
+    }
+
+    public Optional<userEntity> findById(ObjectId id) {
+        userEntity cached = usersById.getIfPresent(id);
+        if (cached == null) {
+            long loadGeneration = generation.get();
+            cached = userRepository.findById(id).orElse(null);
+            if (cached != null) {
+                store(cached, loadGeneration);
+            }
+        }
+        return Optional.ofNullable(cached).map(UserCache::copyOf);
+    }
+
+    public void evict(userEntity user) {
+        if (user.getId() != null) {
+            evictById(user.getId());
+        }
+        if (user.getEmail() != null) {
+            evictByEmail(user.getEmail());
+        }
+    }
+
+    public void evictById(ObjectId id) {
+        generation.incrementAndGet();
+        userEntity cached = usersById.getIfPresent(id);
+        usersById.invalidate(id);
+        if (cached != null && cached.getEmail() != null) {
+            usersByEmail.invalidate(cached.getEmail());
+            principalsByEmail.invalidate(cached.getEmail());
+        } else {
+            // The email is unknown here, so find the principal by id instead
+            principalsByEmail.asMap().values().removeIf(principal -> id.equals(principal.getId()));
+        }
+    }
+
+    public void evictByEmail(String email) {
+        generation.incrementAndGet();
+        userEntity cached = usersByEmail.getIfPresent(email);
+        usersByEmail.invalidate(email);
+        principalsByEmail.invalidate(email);
+        if (cached != null && cached.getId() != null) {
+            usersById.invalidate(cached.getId());
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        usersByEmail.invalidateAll();
+        usersById.invalidateAll();
+        principalsByEmail.invalidateAll();
+    }
+
+    private void store(userEntity user, long loadGeneration) {
+        if (user.getEmail() != null) {
+            usersByEmail.put(user.getEmail(), user);
+        }
+        if (user.getId() != null) {
+            usersById.put(user.getId(), user);
+        }
+        if (generation.get() != loadGeneration) {
+            if (user.getEmail() != null) {
+                usersByEmail.invalidate(user.getEmail());
+            }
+            if (user.getId() != null) {
+                usersById.invalidate(user.getId());
+            }
+        }
+    }
+
+    private static AuthPrincipal copyOf(AuthPrincipal source) {
+        AuthPrincipal copy = new AuthPrincipal();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setEmail(source.getEmail());
+        copy.setUsername(source.getUsername());
+        copy.setPassword(source.getPassword());
+        copy.setRoles(new ArrayList<>(source.getRoles()));
+        copy.setEmailVerified(source.isEmailVerified());
+        copy.setHasResume(source.isHasResume());
+        copy.setHasAnyOrganization(source.isHasAnyOrganization());
+        copy.setProvider(source.getProvider());
+        copy.setEnabled(source.isEnabled());
+        return copy;
+    }
+
+    private static userEntity copyOf(userEntity source) {
+        userEntity copy = new userEntity();
+        copy.setId(source.getId());
+        copy.setName(source.getName());
+        copy.setEmail(source.getEmail());
+        copy.setPassword(source.getPassword());
+        copy.setRoles(new ArrayList<>(source.getRoles()));
+        copy.setBio(source.getBio());
+        copy.setLocation(source.getLocation());
+        copy.setAboutMe(source.getAboutMe());
+        copy.setProfilePictureUrl(source.getProfilePictureUrl());
+        copy.setCoverPictureUrl(source.getCoverPictureUrl());
+        copy.setEmailVerified(source.isEmailVerified());
+        copy.setHasResume(source.isHasResume());
+        copy.setResumeUrl(source.getResumeUrl());
+        copy.setSavedJobs(new ArrayList<>(source.getSavedJobs()));
+        copy.setNumberOfAppliedJobs(source.getNumberOfAppliedJobs());
+        copy.setAppliedJobs(new ArrayList<>(source.getAppliedJobs()));
+        copy.setHasAnyOrganization(source.isHasAnyOrganization());
+        copy.setOrganizationId(new ArrayList<>(source.getOrganizationId()));
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setProvider(source.getProvider());
+        copy.setProviderId(source.getProviderId());
+        copy.setEnabled(source.isEnabled());
+        copy.setUsername(source.getUsername());
+        return copy;
+    }
+}
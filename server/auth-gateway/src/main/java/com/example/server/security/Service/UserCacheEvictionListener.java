@@ -0,0 +1,39 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.userEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link UserCache} consistent with writes made through Spring Data on this node:
+ * any save or delete of a userEntity (profile updates, picture uploads, role changes,
+ * email confirmation, OAuth2 provisioning, applied/saved jobs) evicts both cache keys.
+ */
+@Component
+public class UserCacheEvictionListener extends AbstractMongoEventListener<userEntity> {
+
+    private final UserCache userCache;
+
+    public UserCacheEvictionListener(UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<userEntity> event) {
+        userCache.evict(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<userEntity> event) {
+        Document filter = event.getSource();
+        if (filter.get("_id") instanceof ObjectId id) {
+            userCache.evictById(id);
+        } else {
+            userCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.server.security.models;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-only view of a user holding only what authentication and authorization look at.
+ *
+ * It is either rebuilt from JWT claims or read from the users collection with a field
+ * projection ({@link com.example.server.security.repository.UserRepository#findPrincipalByEmail}),
+ * so the saved/applied job and organization arrays and the profile text are never loaded on
+ * the security path. Controllers that change the user still load the full {@link userEntity}.
+ */
+@Data
+@NoArgsConstructor
+public class AuthPrincipal implements UserDetails {
+
+    /**
+     * Fields read by the projection. Must stay in sync with the properties below.
+     */
+    public static final String PROJECTION = "{ 'name': 1, 'email': 1, 'username': 1, 'password': 1, 'roles': 1, "
+            + "'emailVerified': 1, 'hasResume': 1, 'hasAnyOrganization': 1, 'provider': 1, 'enabled': 1 }";
+
+    private ObjectId id;
+    private String name;
+    private String email;
+    private String username;
+    private String password;
+    private List<Role> roles = new ArrayList<>();
+    private boolean emailVerified = false;
+    private boolean hasResume = false;
+    private boolean hasAnyOrganization = false;
+    private String provider;
+    private boolean enabled = false;
+
+    /**
+     * Principal derived from token claims; it never carries a password hash.
+     */
+    public AuthPrincipal(ObjectId id,
+                         String email,
+                         List<Role> roles,
+                         boolean emailVerified,
+                         boolean hasResume,
+                         boolean hasAnyOrganization) {
+        this.id                 = id;
+        this.email              = email;
+        this.roles              = roles;
+        this.emailVerified      = emailVerified;
+        this.hasResume          = hasResume;
+        this.hasAnyOrganization = hasAnyOrganization;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.of(roles);
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        // Same rule as userEntity: fall back to the email when no username is stored
+        return username != null ? username : email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        // Mirrors userEntity: OAuth2 users use the enabled flag, email users their verification
+        if (provider != null && !provider.isEmpty()) {
+            return enabled;
+        }
+        return emailVerified;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.server.security.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An email waiting in (or processed by) the outbox. The body is rendered at send time from
+ * the named template and its variables, so the outbox stores only what differs per email.
+ */
+@Document(collection = "emailOutbox")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboundEmail {
+
+    public enum Status { PENDING, SENDING, SENT, FAILED }
+
+    @Id
+    private ObjectId id;
+    private String to;
+    private String subject;
+    private String template;
+    private Map<String, String> variables = new HashMap<>();   // removed once SENT or FAILED (holds OTPs)
+    private Status status = Status.PENDING;
+    private int attempts = 0;
+    private Instant nextAttemptAt;
+    private Instant lockedUntil;
+    private String lockedBy;
+    private String lastError;
+    private Instant createdAt;
+    private Instant sentAt;
+    private Instant expiresAt;   // set once SENT or FAILED; a TTL index removes the document then
+}
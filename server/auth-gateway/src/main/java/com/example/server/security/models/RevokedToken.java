@@ -0,0 +1,29 @@
+package com.example.server.security.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * A revocation entry. Either a single token (jti set) or every token of a subject issued
+ * up to revokedBefore (jti null). MongoDB drops the entry at expiresAt through a TTL index,
+ * i.e. once every token it could match has expired on its own.
+ */
+@Document(collection = "revokedTokens")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokedToken {
+    @Id
+    private ObjectId id;
+    private String jti;
+    private String subject;
+    private Instant revokedBefore;
+    private Instant createdAt;
+    private Instant expiresAt;
+}
@@ -0,0 +1,52 @@
+package com.example.server.security.models;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interned authorities per role name. getAuthorities() is called for every authenticated
+ * request, so the common single-role case returns a shared immutable list instead of
+ * streaming the roles into a new collection each time. Preloaded by the role registry at
+ * startup; unknown names are added on first use.
+ */
+public final class RoleAuthorities {
+
+    private static final Map<String, List<GrantedAuthority>> SINGLE_ROLE = new ConcurrentHashMap<>();
+
+    private RoleAuthorities() {
+    }
+
+    public static void intern(String roleName) {
+        if (roleName != null) {
+            SINGLE_ROLE.computeIfAbsent(roleName, name -> List.of(new SimpleGrantedAuthority(name)));
+        }
+    }
+
+    public static Collection<GrantedAuthority> of(List<Role> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return List.of();
+        }
+        if (roles.size() == 1) {
+            return forName(roles.get(0).getName());
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Role role : roles) {
+            authorities.addAll(forName(role.getName()));
+        }
+        return authorities;
+    }
+
+    private static List<GrantedAuthority> forName(String roleName) {
+        if (roleName == null) {
+            return List.of();
+        }
+        return SINGLE_ROLE.computeIfAbsent(roleName, name -> List.of(new SimpleGrantedAuthority(name)));
+    }
+}
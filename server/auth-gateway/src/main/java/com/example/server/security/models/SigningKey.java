@@ -0,0 +1,27 @@
+package com.example.server.security.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Public half of a token signing key, published so every gateway node (and the JWKS endpoint)
+ * can verify tokens signed by any node. Private keys never leave the node that generated them.
+ * Removed by a TTL index once no token signed with it can still be valid.
+ */
+@Document(collection = "jwtSigningKeys")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SigningKey {
+    @Id
+    private String kid;
+    private String algorithm;
+    private String publicKey;   // X.509 SubjectPublicKeyInfo, Base64
+    private Instant createdAt;
+    private Instant expiresAt;
+}
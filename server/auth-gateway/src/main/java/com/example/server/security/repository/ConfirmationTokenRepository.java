@@ -5,7 +5,11 @@ import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ConfirmationTokenRepository extends MongoRepository<ConfirmationToken, ObjectId> {
     ConfirmationToken findByToken(String token);
-}
\ No newline at end of file
+    Optional<ConfirmationToken> findByUserEmailAndToken(String userEmail, String token);
+    void deleteByUserEmail(String userEmail);
+}
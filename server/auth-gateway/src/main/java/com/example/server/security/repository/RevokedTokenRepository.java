@@ -0,0 +1,18 @@
+package com.example.server.security.repository;
+
+import com.example.server.security.models.RevokedToken;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends MongoRepository<RevokedToken, ObjectId> {
+
+    boolean existsByJti(String jti);
+    List<RevokedToken> findByCreatedAtGreaterThanEqual(Instant createdAt);
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+}
@@ -0,0 +1,15 @@
+package com.example.server.security.repository;
+
+import com.example.server.security.models.SigningKey;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends MongoRepository<SigningKey, String> {
+
+    List<SigningKey> findByExpiresAtAfter(Instant now);
+
+}
@@ -1,8 +1,10 @@
 package com.example.server.security.repository;
 
+import com.example.server.security.models.AuthPrincipal;
 import com.example.server.security.models.userEntity;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,4 +15,10 @@ public interface UserRepository extends MongoRepository<userEntity, ObjectId> {
     Optional<userEntity> findByEmail(String email);
     Boolean existsByEmail(String email);
 
+    /**
+     * Loads only the fields needed to authenticate and authorize the user.
+     */
+    @Query(value = "{ 'email': ?0 }", fields = AuthPrincipal.PROJECTION)
+    Optional<AuthPrincipal> findPrincipalByEmail(String email);
+
 }
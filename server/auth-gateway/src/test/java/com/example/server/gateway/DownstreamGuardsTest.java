@@ -0,0 +1,117 @@
+package com.example.server.gateway;
+
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A bulkhead of one permit makes a leaked permit visible as a 503 on the next call.
+ */
+class DownstreamGuardsTest {
+
+    private static final Route ROUTE = Route.route("job.get").get("/jobs/{id}").to("job", "/jobs/{id}").build();
+
+    private DownstreamGuards downstreamGuards;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("gateway.resilience.max-concurrent-calls", "1")
+                .withProperty("gateway.resilience.sliding-window-size", "4")
+                .withProperty("gateway.resilience.minimum-number-of-calls", "4");
+        downstreamGuards = new DownstreamGuards(environment, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void bulkheadRejectsWhileCallIsInFlight() {
+        CompletableFuture<ProxyResponse> downstream = new CompletableFuture<>();
+        downstreamGuards.filter(exchange(), exchange -> downstream);
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> downstreamGuards.filter(exchange(), exchange -> new CompletableFuture<>()));
+
+        downstream.complete(ok());
+        assertEquals(200, downstreamGuards.filter(exchange(), exchange -> CompletableFuture.completedFuture(ok())).join().status());
+    }
+
+    @Test
+    void permitIsReleasedWhenDownstreamFails() {
+        CompletableFuture<ProxyResponse> failed = downstreamGuards.filter(exchange(),
+                exchange -> CompletableFuture.failedFuture(new IOException("connection reset")));
+        assertThrows(CompletionException.class, failed::join);
+
+        assertDoesNotThrow(() -> downstreamGuards.filter(exchange(), exchange -> CompletableFuture.completedFuture(ok())));
+    }
+
+    @Test
+    void permitIsReleasedWhenChainThrows() {
+        CompletableFuture<ProxyResponse> failed = downstreamGuards.filter(exchange(), exchange -> {
+            throw new IllegalStateException("no client");
+        });
+        assertThrows(CompletionException.class, failed::join);
+
+        assertDoesNotThrow(() -> downstreamGuards.filter(exchange(), exchange -> CompletableFuture.completedFuture(ok())));
+    }
+
+    @Test
+    void breakerOpensOnServerErrors() {
+        for (int i = 0; i < 4; i++) {
+            downstreamGuards.filter(exchange(), exchange -> CompletableFuture.completedFuture(
+                    ProxyResponse.buffered(502, new HttpHeaders(), new byte[0]))).join();
+        }
+
+        ServiceUnavailableException error = assertThrows(ServiceUnavailableException.class,
+                () -> downstreamGuards.filter(exchange(), exchange -> CompletableFuture.completedFuture(ok())));
+        assertTrue(error.getMessage().contains("unavailable"));
+    }
+
+    @Test
+    void feignPermitIsReleasedOnResponseAndOnIOException() throws IOException {
+        GuardedFeignCapability capability = new GuardedFeignCapability(downstreamGuards);
+        Request request = feignRequest("jobClient");
+
+        Client failing = capability.enrich((Client) (req, options) -> {
+            throw new IOException("connection reset");
+        });
+        assertThrows(IOException.class, () -> failing.execute(request, new Request.Options()));
+
+        Client succeeding = capability.enrich((Client) (req, options) -> Response.builder()
+                .request(req)
+                .status(200)
+                .headers(Map.of())
+                .build());
+        assertEquals(200, succeeding.execute(request, new Request.Options()).status());
+        assertEquals(200, succeeding.execute(request, new Request.Options()).status());
+    }
+
+    private static ProxyExchange exchange() {
+        return new ProxyExchange(new MockHttpServletRequest("GET", "/jobs/42"), ROUTE, Map.of("id", "42"), new HttpHeaders(), null);
+    }
+
+    private static ProxyResponse ok() {
+        return ProxyResponse.buffered(200, new HttpHeaders(), new byte[0]);
+    }
+
+    private static Request feignRequest(String clientName) {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(Object.class, clientName, "http://job"));
+        return Request.create(Request.HttpMethod.GET, "http://job/jobs/42", Map.of(), null, StandardCharsets.UTF_8, template);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.server.gateway;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Identity parameters in the target template come from the token only; whatever the client puts
+ * in its query string under the same name must not reach the downstream.
+ */
+class ProxyClientTest {
+
+    private static final String CALLER = "me@evalia.dev";
+
+    private static final Route SUGGESTIONS = Route.route("course.suggestions")
+            .get("/api/course/suggestions")
+            .to("resume", "/api/course/suggestions?candidateEmail={email}")
+            .build();
+
+    private static final Route JOB_DELETE = Route.route("job.delete")
+            .delete("/api/job/{jobId}")
+            .to("job", "/api/jobs/{jobId}?email={email}")
+            .build();
+
+    private static final Route ACTIVE_JOBS = Route.route("job.active")
+            .get("/api/job/active-jobs")
+            .to("job", "/api/jobs/")
+            .build();
+
+    private final ProxyClient proxyClient = new ProxyClient(mock(HttpClientPools.class), RouteTable.builder()
+            .downstream("resume", "http://resume")
+            .downstream("job", "http://job")
+            .route(SUGGESTIONS)
+            .route(JOB_DELETE)
+            .route(ACTIVE_JOBS)
+            .build());
+
+    @Test
+    void clientCannotAddSecondCandidateEmail() {
+        HttpUrl url = url(SUGGESTIONS, Map.of("email", CALLER), "candidateEmail=victim%40evalia.dev&limit=5");
+
+        assertEquals(List.of(CALLER), url.queryParameterValues("candidateEmail"));
+        assertEquals(List.of("5"), url.queryParameterValues("limit"));
+    }
+
+    @Test
+    void encodedAndBracketedNamesAreDroppedToo() {
+        HttpUrl url = url(SUGGESTIONS, Map.of("email", CALLER),
+                "candidate%45mail=victim%40evalia.dev&candidateEmail[]=victim%40evalia.dev&candidateEmail%5B0%5D=victim%40evalia.dev");
+
+        assertEquals(List.of("candidateEmail"), List.copyOf(url.queryParameterNames()));
+        assertEquals(List.of(CALLER), url.queryParameterValues("candidateEmail"));
+    }
+
+    @Test
+    void clientCannotAddSecondEmail() {
+        HttpUrl url = url(JOB_DELETE, Map.of("jobId", "42", "email", CALLER), "email=victim%40evalia.dev");
+
+        assertEquals("/api/jobs/42", url.encodedPath());
+        assertEquals(List.of(CALLER), url.queryParameterValues("email"));
+    }
+
+    @Test
+    void queryIsForwardedAsIsWhenTemplateSetsNone() {
+        HttpUrl url = url(ACTIVE_JOBS, Map.of(), "page=2&email=someone%40evalia.dev");
+
+        assertEquals("page=2&email=someone%40evalia.dev", url.encodedQuery());
+    }
+
+    private HttpUrl url(Route route, Map<String, String> variables, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest(route.method().name(), "/");
+        request.setQueryString(query);
+        return proxyClient.toRequest(new ProxyExchange(request, route, variables, new HttpHeaders(), null)).url();
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.server.gateway;
+
+import com.example.server.exception.CustomExceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The downstream is a future completed by hand, so followers are guaranteed to arrive while
+ * the leader's call is in flight.
+ */
+class SingleFlightRouteFilterTest {
+
+    private static final Route ROUTE = Route.route("job.get").get("/jobs/{id}").to("job", "/jobs/{id}").build();
+
+    private SimpleMeterRegistry              meterRegistry;
+    private SingleFlightRouteFilter          filter;
+    private CompletableFuture<ProxyResponse> downstream;
+    private AtomicInteger                    downstreamCalls;
+    private RouteFilterChain                 chain;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry   = new SimpleMeterRegistry();
+        filter          = new SingleFlightRouteFilter(meterRegistry, Duration.ofMillis(100));
+        downstream      = new CompletableFuture<>();
+        downstreamCalls = new AtomicInteger();
+        chain           = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return downstream;
+        };
+    }
+
+    @Test
+    void concurrentRequestsShareOneCall() {
+        List<CompletableFuture<ProxyResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(filter.filter(exchange("42"), chain));
+        }
+
+        downstream.complete(ProxyResponse.streaming(200, new HttpHeaders(),
+                new ByteArrayInputStream("{\"id\":42}".getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(1, downstreamCalls.get());
+        for (CompletableFuture<ProxyResponse> response : responses) {
+            assertEquals("{\"id\":42}", new String(response.join().body(), StandardCharsets.UTF_8));
+        }
+        assertEquals(0, meterRegistry.get("gateway.single-flight.in-flight").gauge().value());
+    }
+
+    @Test
+    void differentKeysAreNotCoalesced() {
+        filter.filter(exchange("1"), chain);
+        filter.filter(exchange("2"), chain);
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void callersGetIndependentHeaders() {
+        CompletableFuture<ProxyResponse> leader   = filter.filter(exchange("42"), chain);
+        CompletableFuture<ProxyResponse> follower = filter.filter(exchange("42"), chain);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.VARY, "Accept");
+        downstream.complete(ProxyResponse.buffered(200, headers, new byte[0]));
+
+        follower.join().headers().add(HttpHeaders.VARY, "Authorization");
+
+        assertEquals(List.of("Accept"), leader.join().headers().get(HttpHeaders.VARY));
+    }
+
+    @Test
+    void followerTimesOutWithoutCancellingLeader() {
+        CompletableFuture<ProxyResponse> leader   = filter.filter(exchange("42"), chain);
+        CompletableFuture<ProxyResponse> follower = filter.filter(exchange("42"), chain);
+
+        CompletionException error = assertThrows(CompletionException.class, follower::join);
+        assertInstanceOf(ServiceUnavailableException.class, error.getCause());
+        assertEquals(1, meterRegistry.get("gateway.single-flight.timeouts").counter().count());
+
+        assertFalse(leader.isDone());
+        downstream.complete(ProxyResponse.buffered(200, new HttpHeaders(), new byte[0]));
+        assertEquals(200, leader.join().status());
+    }
+
+    @Test
+    void downstreamErrorReachesEveryCaller() {
+        List<CompletableFuture<ProxyResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            responses.add(filter.filter(exchange("42"), chain));
+        }
+
+        IOException failure = new IOException("connection reset");
+        downstream.completeExceptionally(failure);
+
+        for (CompletableFuture<ProxyResponse> response : responses) {
+            CompletionException error = assertThrows(CompletionException.class, response::join);
+            assertSame(failure, error.getCause());
+        }
+    }
+
+    @Test
+    void keyIsReleasedOnceCallCompletes() {
+        filter.filter(exchange("42"), chain);
+        downstream.completeExceptionally(new IOException("connection reset"));
+
+        downstream = new CompletableFuture<>();
+        filter.filter(exchange("42"), chain);
+
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    @Test
+    void chainThrowingSynchronouslyReleasesKey() {
+        RouteFilterChain failing = exchange -> {
+            downstreamCalls.incrementAndGet();
+            throw new IllegalStateException("no client");
+        };
+
+        CompletableFuture<ProxyResponse> response = filter.filter(exchange("42"), failing);
+        assertThrows(CompletionException.class, response::join);
+
+        filter.filter(exchange("42"), chain);
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    private static ProxyExchange exchange(String id) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jobs/" + id);
+        return new ProxyExchange(request, ROUTE, Map.of("id", id), new HttpHeaders(), null);
+    }
+}
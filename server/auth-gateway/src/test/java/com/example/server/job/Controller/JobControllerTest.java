@@ -0,0 +1,161 @@
+package com.example.server.job.Controller;
+
+import com.example.server.UserProfile.Service.OrganizationService;
+import com.example.server.UserProfile.Service.UserService;
+import com.example.server.gateway.BufferPool;
+import com.example.server.gateway.StreamingResponseWriter;
+import com.example.server.job.DTO.JobApplicationRequest;
+import com.example.server.job.Proxy.JobProxy;
+import com.example.server.job.Service.JobCatalogCache;
+import com.example.server.job.Service.JobService;
+import com.example.server.security.Config.CurrentUserArgumentResolver;
+import com.example.server.security.Service.CurrentUserService;
+import com.example.server.security.Service.CustomUserDetailsService;
+import com.example.server.security.Service.UserCache;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.userEntity;
+import com.example.server.security.repository.UserRepository;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Counts UserRepository reads per endpoint: a request must load the caller at most once.
+ */
+class JobControllerTest {
+
+    private static final String EMAIL = "candidate@evalia.dev";
+
+    private UserRepository  userRepository;
+    private JobProxy        jobProxy;
+    private UserService     userService;
+    private JobCatalogCache jobCatalogCache;
+    private MockMvc         mockMvc;
+    private userEntity      user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository  = mock(UserRepository.class);
+        jobProxy        = mock(JobProxy.class);
+        userService     = mock(UserService.class);
+        jobCatalogCache = mock(JobCatalogCache.class);
+
+        user = new userEntity();
+        user.setId(new ObjectId());
+        user.setEmail(EMAIL);
+        user.setName("Candidate");
+        user.setHasResume(true);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        when(jobProxy.applyToAJob(any(JobApplicationRequest.class))).thenReturn(ResponseEntity.ok("{}"));
+        when(jobProxy.getJobSuggestionsForCandidate(anyString())).thenAnswer(invocation -> downstreamOk("[]"));
+        when(jobProxy.getAllJobsAppliedByUser(any())).thenAnswer(invocation -> downstreamOk("[]"));
+
+        JobController controller = new JobController(
+                jobProxy, userService, mock(OrganizationService.class), mock(JobService.class), jobCatalogCache,
+                new StreamingResponseWriter(new BufferPool(1024, 4)));
+
+        CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver(
+                new CurrentUserService(new CustomUserDetailsService(
+                        new UserCache(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)),
+                        mock(MongoTemplate.class))));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(resolver)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void applyLoadsUserOnceWhenPrincipalComesFromToken() throws Exception {
+        Authentication auth = authenticate(new AuthPrincipal(user.getId(), EMAIL, List.of(), true, true, false));
+
+        mockMvc.perform(post("/api/job/{jobId}/apply", "job-1").principal(auth))
+                .andExpect(status().isOk());
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userService, times(1)).saveUpdatedUser(any(userEntity.class));
+    }
+
+    @Test
+    void applyReusesEntityAlreadyInSecurityContext() throws Exception {
+        Authentication auth = authenticate(user);
+
+        mockMvc.perform(post("/api/job/{jobId}/apply", "job-1").principal(auth))
+                .andExpect(status().isOk());
+
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void applyInvalidatesCachedJob() throws Exception {
+        Authentication auth = authenticate(user);
+
+        mockMvc.perform(post("/api/job/{jobId}/apply", "job-1").principal(auth))
+                .andExpect(status().isOk());
+
+        verify(jobCatalogCache).invalidateJob("job-1", "job-applied");
+    }
+
+    @Test
+    void readEndpointsLoadUserAtMostOnce() throws Exception {
+        Authentication auth = authenticate(new AuthPrincipal(user.getId(), EMAIL, List.of(), true, true, false));
+
+        mockMvc.perform(get("/api/job/suggestions").principal(auth))
+                .andExpect(status().isOk());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+
+        // The second request is served from UserCache
+        clearInvocations(userRepository);
+        mockMvc.perform(get("/api/job/user/applied").principal(auth))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(content().string("[]"));
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    private static Response downstreamOk(String body) {
+        return Response.builder()
+                .status(200)
+                .request(Request.create(Request.HttpMethod.GET, "/", Map.of(), null, StandardCharsets.UTF_8, null))
+                .headers(Map.of("Content-Type", List.of("application/json")))
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private static Authentication authenticate(UserDetails principal) {
+        Authentication auth = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        return auth;
+    }
+}
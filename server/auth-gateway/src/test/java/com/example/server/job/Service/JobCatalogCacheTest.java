@@ -0,0 +1,49 @@
+package com.example.server.job.Service;
+
+import com.example.server.gateway.ProxyExchange;
+import com.example.server.gateway.ProxyResponse;
+import com.example.server.gateway.Route;
+import com.example.server.gateway.RouteFilter;
+import com.example.server.gateway.RouteFilterChain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Whatever a filter does to the headers of a served response must not reach the cached entry.
+ */
+class JobCatalogCacheTest {
+
+    private static final Route JOB_BY_ID = Route.route("job.by-id").get("/api/job/{jobId}").to("job", "/api/jobs/{jobId}").build();
+
+    private final JobCatalogCache jobCatalogCache = new JobCatalogCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(2));
+
+    @Test
+    void servedHeadersDoNotShareListsWithEntry() {
+        RouteFilter      readThrough = jobCatalogCache.readThrough();
+        RouteFilterChain downstream  = exchange -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.VARY, "Accept");
+            return CompletableFuture.completedFuture(ProxyResponse.buffered(200, headers, new byte[0]));
+        };
+
+        // Miss, then hit: each response gets a header added by a later filter
+        readThrough.filter(exchange(), downstream).join().headers().add(HttpHeaders.VARY, "Authorization");
+        readThrough.filter(exchange(), downstream).join().headers().add(HttpHeaders.VARY, "Cookie");
+
+        assertEquals(List.of("Accept"), readThrough.filter(exchange(), downstream).join().headers().get(HttpHeaders.VARY));
+    }
+
+    private static ProxyExchange exchange() {
+        return new ProxyExchange(new MockHttpServletRequest("GET", "/api/job/42"), JOB_BY_ID,
+                Map.of("jobId", "42"), new HttpHeaders(), null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.server.reactive.JWT;
+
+import com.example.server.reactive.repository.ReactiveRevokedTokenRepository;
+import com.example.server.security.JWT.JwtPrincipal;
+import com.example.server.security.models.RevokedToken;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Once the list is loaded, only a Bloom hit may reach MongoDB.
+ */
+class ReactiveTokenRevocationServiceTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private ReactiveRevokedTokenRepository repository;
+    private ReactiveTokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        repository        = mock(ReactiveRevokedTokenRepository.class);
+        revocationService = new ReactiveTokenRevocationService(repository, 1000, 0.01, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void fallsBackToLookupsBeforeFirstRebuild() {
+        when(repository.existsBySubjectAndRevokedBeforeGreaterThanEqual(anyString(), any())).thenReturn(Mono.just(false));
+        when(repository.existsByJti("jti-1")).thenReturn(Mono.just(true));
+
+        assertTrue(revocationService.isRevoked(principal("a@evalia.dev", "jti-1")).block());
+    }
+
+    @Test
+    void unrevokedTokenIsAnsweredFromMemory() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(Flux.just(
+                new RevokedToken(null, "jti-1", "a@evalia.dev", null, NOW, NOW.plusSeconds(3600))));
+        revocationService.rebuild().block();
+
+        assertFalse(revocationService.isRevoked(principal("b@evalia.dev", "jti-2")).block());
+        verify(repository, never()).existsByJti(anyString());
+        verify(repository, never()).existsBySubjectAndRevokedBeforeGreaterThanEqual(anyString(), any());
+    }
+
+    @Test
+    void bloomHitIsConfirmedByJti() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(Flux.empty());
+        when(repository.findByCreatedAtGreaterThanEqual(any())).thenReturn(Flux.just(
+                new RevokedToken(null, "jti-1", "a@evalia.dev", null, NOW, NOW.plusSeconds(3600))));
+        when(repository.existsByJti("jti-1")).thenReturn(Mono.just(true));
+        revocationService.rebuild().block();
+        revocationService.sync().block();
+
+        assertTrue(revocationService.isRevoked(principal("a@evalia.dev", "jti-1")).block());
+        verify(repository).existsByJti("jti-1");
+    }
+
+    @Test
+    void subjectRevocationCoversEarlierTokens() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(Flux.just(
+                new RevokedToken(null, null, "a@evalia.dev", NOW, NOW, NOW.plusSeconds(3600))));
+        revocationService.rebuild().block();
+
+        assertTrue(revocationService.isRevoked(principal("a@evalia.dev", "jti-1")).block());
+        verify(repository, never()).existsByJti(anyString());
+    }
+
+    private static JwtPrincipal principal(String subject, String jti) {
+        return new JwtPrincipal(subject, NOW.minusSeconds(60), NOW.plusSeconds(600), Map.of(Claims.ID, jti));
+    }
+}
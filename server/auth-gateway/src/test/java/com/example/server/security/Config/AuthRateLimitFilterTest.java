@@ -0,0 +1,105 @@
+package com.example.server.security.Config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Register allows 5 requests per minute per IP and 3 per 10 minutes per email.
+ */
+class AuthRateLimitFilterTest {
+
+    private static final String REGISTER = "/api/auth/register";
+    private static final String PROXIES  = "10.0.0.0/8,127.0.0.0/8";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter        = new AuthRateLimitFilter(objectMapper, meterRegistry, true, 1000, PROXIES);
+    }
+
+    @Test
+    void rejectsWithRetryAfterOnceIpBucketIsEmpty() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, register("203.0.113.7", null, "user" + i + "@evalia.dev").getStatus());
+        }
+
+        MockHttpServletResponse rejected = register("203.0.113.7", null, "other@evalia.dev");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("application/json", rejected.getContentType());
+
+        long retryAfter = Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter >= 1 && retryAfter <= 12, "Retry-After was " + retryAfter);
+
+        JsonNode body = objectMapper.readTree(rejected.getContentAsByteArray());
+        assertEquals(429, body.get("status").asInt());
+        assertEquals(1.0, meterRegistry.counter("auth.rate-limit.rejected", "route", REGISTER).count());
+    }
+
+    @Test
+    void emailBucketIsSharedAcrossIps() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, register("203.0.113." + i, null, "Victim@evalia.dev").getStatus());
+        }
+        assertEquals(429, register("203.0.113.9", null, "victim@evalia.dev ").getStatus());
+    }
+
+    @Test
+    void clientsBehindTheLoadBalancerHaveTheirOwnBuckets() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            register("10.0.0.2", "198.51.100.1", "a" + i + "@evalia.dev");
+        }
+        assertEquals(429, register("10.0.0.2", "198.51.100.1", "a9@evalia.dev").getStatus());
+        assertEquals(200, register("10.0.0.2", "198.51.100.2", "b@evalia.dev").getStatus());
+    }
+
+    @Test
+    void resolvesClientFromTheRightmostUntrustedHop() {
+        // Spoofed leftmost entry, then the real client, then an inner proxy
+        assertEquals("198.51.100.1", clientIp("10.0.0.2", "1.2.3.4, 198.51.100.1, 10.1.1.1"));
+        assertEquals("198.51.100.1", clientIp("10.0.0.2", "not-an-ip, 198.51.100.1"));
+        assertEquals("not-an-ip",    clientIp("10.0.0.2", "198.51.100.1, not-an-ip"));
+        // Only trusted proxies may set the header
+        assertEquals("203.0.113.7",  clientIp("203.0.113.7", "198.51.100.1"));
+        // Every hop trusted: the leftmost is the best guess
+        assertEquals("10.9.9.9",     clientIp("10.0.0.2", "10.9.9.9, 10.1.1.1"));
+        assertEquals("10.0.0.2",     clientIp("10.0.0.2", null));
+    }
+
+    private String clientIp(String remoteAddr, String forwardedFor) {
+        return filter.clientIp(request(remoteAddr, forwardedFor, ""));
+    }
+
+    private MockHttpServletResponse register(String remoteAddr, String forwardedFor, String email) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(remoteAddr, forwardedFor, "{\"email\":\"" + email + "\"}"), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", REGISTER);
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
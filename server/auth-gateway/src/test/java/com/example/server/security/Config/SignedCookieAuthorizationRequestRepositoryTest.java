@@ -0,0 +1,120 @@
+package com.example.server.security.Config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.crypto.spec.SecretKeySpec;
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SignedCookieAuthorizationRequestRepositoryTest {
+
+    private static final Instant       NOW    = Instant.parse("2026-01-01T00:00:00Z");
+    private static final SecretKeySpec SECRET = new SecretKeySpec(new byte[32], "HmacSHA256");
+
+    private final SignedCookieAuthorizationRequestRepository repository =
+            new SignedCookieAuthorizationRequestRepository(SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void roundTripsTheAuthorizationRequest() {
+        OAuth2AuthorizationRequest original = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://github.com/login/oauth/authorize")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/github")
+                .scopes(Set.of("read:user", "user:email"))
+                .state("state-123")
+                .additionalParameters(Map.of("nonce", "hashed-nonce"))
+                .attributes(Map.of("registration_id", "github", "nonce", "raw-nonce"))
+                .authorizationRequestUri("https://github.com/login/oauth/authorize?state=state-123")
+                .build();
+
+        OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(requestWith(save(original)));
+
+        assertNotNull(loaded);
+        assertEquals(original.getAuthorizationUri(), loaded.getAuthorizationUri());
+        assertEquals(original.getClientId(), loaded.getClientId());
+        assertEquals(original.getRedirectUri(), loaded.getRedirectUri());
+        assertEquals(original.getScopes(), loaded.getScopes());
+        assertEquals(original.getState(), loaded.getState());
+        assertEquals(original.getAdditionalParameters(), loaded.getAdditionalParameters());
+        assertEquals(original.getAttributes(), loaded.getAttributes());
+        assertEquals(original.getAuthorizationRequestUri(), loaded.getAuthorizationRequestUri());
+        assertEquals(original.getGrantType(), loaded.getGrantType());
+    }
+
+    @Test
+    void rejectsAlteredPayload() {
+        String value = save(OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://github.com/login/oauth/authorize")
+                .clientId("client-id")
+                .state("state-123")
+                .build());
+
+        String signature = value.substring(value.indexOf('.') + 1);
+        String forged    = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"authorizationUri\":\"https://evil.example\",\"clientId\":\"client-id\",\"state\":\"state-123\"}"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        assertNull(repository.loadAuthorizationRequest(requestWith(forged + "." + signature)));
+        assertNull(repository.loadAuthorizationRequest(requestWith("not-base64!.x")));
+        assertNull(repository.loadAuthorizationRequest(requestWith("no-separator")));
+    }
+
+    @Test
+    void rejectsExpiredCookie() {
+        String value = save(request());
+
+        SignedCookieAuthorizationRequestRepository later = new SignedCookieAuthorizationRequestRepository(
+                SECRET, Clock.fixed(NOW.plus(Duration.ofMinutes(3)), ZoneOffset.UTC));
+
+        assertNotNull(repository.loadAuthorizationRequest(requestWith(value)));
+        assertNull(later.loadAuthorizationRequest(requestWith(value)));
+    }
+
+    @Test
+    void macIsNotKeyedWithTheJwtSecret() throws Exception {
+        String value     = save(request());
+        byte[] payload   = Base64.getUrlDecoder().decode(value.substring(0, value.indexOf('.')));
+        byte[] signature = Base64.getUrlDecoder().decode(value.substring(value.indexOf('.') + 1));
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(SECRET);
+        assertFalse(Arrays.equals(mac.doFinal(payload), signature));
+    }
+
+    private static OAuth2AuthorizationRequest request() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://github.com/login/oauth/authorize")
+                .clientId("client-id")
+                .state("state-123")
+                .build();
+    }
+
+    private String save(OAuth2AuthorizationRequest authorizationRequest) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+
+        String header = response.getHeader(HttpHeaders.SET_COOKIE);
+        return header.substring(header.indexOf('=') + 1, header.indexOf(';'));
+    }
+
+    private static MockHttpServletRequest requestWith(String cookieValue) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(SignedCookieAuthorizationRequestRepository.COOKIE_NAME, cookieValue));
+        return request;
+    }
+}
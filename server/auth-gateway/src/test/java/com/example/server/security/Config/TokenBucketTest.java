@@ -0,0 +1,93 @@
+package com.example.server.security.Config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    void startsFullAndRejectsOnceEmpty() {
+        TokenBucket bucket = new TokenBucket(3, 60_000);
+
+        assertEquals(0, bucket.tryConsume());
+        assertEquals(0, bucket.tryConsume());
+        assertEquals(0, bucket.tryConsume());
+
+        // One token per 20s
+        long waitMs = bucket.tryConsume();
+        assertTrue(waitMs > 19_000 && waitMs <= 20_000, "wait was " + waitMs);
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, 200);
+        bucket.tryConsume();
+        bucket.tryConsume();
+
+        long waitMs = bucket.tryConsume();
+        assertTrue(waitMs > 0 && waitMs <= 100, "wait was " + waitMs);
+
+        Thread.sleep(waitMs + 20);
+        assertEquals(0, bucket.tryConsume());
+    }
+
+    @Test
+    void neverRefillsAboveCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(2, 50);
+        Thread.sleep(200);
+
+        assertEquals(0, bucket.tryConsume());
+        assertEquals(0, bucket.tryConsume());
+        assertTrue(bucket.tryConsume() > 0);
+    }
+
+    @Test
+    void concurrentCallersNeverOverdraw() throws Exception {
+        int capacity = TokenBucket.MAX_CAPACITY;
+        TokenBucket bucket = new TokenBucket(capacity, TimeUnit.HOURS.toMillis(1));
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch  start    = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < capacity; i++) {
+                        if (bucket.tryConsume() == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Integer> result : results) {
+                granted += result.get(10, TimeUnit.SECONDS);
+            }
+            // Refill over the test's runtime is well below one token
+            assertEquals(capacity, granted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsCapacityOutsidePackedRange() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(TokenBucket.MAX_CAPACITY + 1, 1000));
+    }
+}
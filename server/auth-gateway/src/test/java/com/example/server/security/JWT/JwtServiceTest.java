@@ -0,0 +1,74 @@
+package com.example.server.security.JWT;
+
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.Role;
+import com.example.server.security.repository.SigningKeyRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Once tokens are signed with RS256, a token signed with the shared secret only verifies while
+ * jwt.signing.accept-hmac is set.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "testSecretThatIsComfortablyLongerThanSixtyFourBytesForHmacSha512Signing";
+
+    @Test
+    void hmacTokensVerifyWhileSigningWithHmac() {
+        String token = service("HS512", null).generateToken(principal());
+
+        assertEquals("candidate@evalia.dev", service("HS512", null).verify(token).subject());
+    }
+
+    @Test
+    void hmacTokensAreRejectedAfterSwitchToRs256() {
+        String token = service("HS512", null).generateToken(principal());
+
+        assertThrows(AuthenticationCredentialsNotFoundException.class, () -> service("RS256", null).verify(token));
+    }
+
+    @Test
+    void hmacTokensVerifyAfterSwitchWhenAccepted() {
+        String token = service("HS512", null).generateToken(principal());
+
+        assertEquals("candidate@evalia.dev", service("RS256", true).verify(token).subject());
+    }
+
+    @Test
+    void hmacTokensAreRejectedWhenAcceptanceIsOff() {
+        String token = service("HS512", null).generateToken(principal());
+
+        assertThrows(AuthenticationCredentialsNotFoundException.class, () -> service("HS512", false).verify(token));
+    }
+
+    private static JwtService service(String algorithm, Boolean acceptHmac) {
+        JwtConfig jwtConfig = new JwtConfig();
+        ReflectionTestUtils.setField(jwtConfig, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtConfig, "jwtExpiration", Duration.ofHours(1).toMillis());
+        ReflectionTestUtils.setField(jwtConfig, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(jwtConfig, "acceptHmac", acceptHmac);
+
+        JwtKeyManager keyManager = new JwtKeyManager(mock(SigningKeyRepository.class), mock(MongoTemplate.class),
+                jwtConfig, Duration.ofDays(1), Duration.ofSeconds(10));
+        keyManager.rotate();
+        return new JwtService(jwtConfig.secretKey(), jwtConfig, keyManager);
+    }
+
+    private static AuthPrincipal principal() {
+        AuthPrincipal principal = new AuthPrincipal(new ObjectId(), "candidate@evalia.dev",
+                List.of(new Role(new ObjectId(), "ROLE_USER")), true, true, false);
+        principal.setName("Candidate");
+        return principal;
+    }
+}
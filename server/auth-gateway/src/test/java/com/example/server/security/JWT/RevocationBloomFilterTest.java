@@ -0,0 +1,81 @@
+package com.example.server.security.JWT;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bits set by concurrent writers must never be lost, or a revoked token would pass the fast path.
+ */
+class RevocationBloomFilterTest {
+
+    @Test
+    void addedValuesAreAlwaysFound() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("jti-" + i), "jti-" + i);
+        }
+    }
+
+    @Test
+    void concurrentPutsAreNeverLost() throws Exception {
+        int threads   = 8;
+        int perThread = 5_000;
+        RevocationBloomFilter filter = new RevocationBloomFilter((long) threads * perThread, 0.01);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch  start    = new CountDownLatch(1);
+        List<Future<?>> writers  = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        filter.put("jti-" + thread + "-" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < perThread; i++) {
+                assertTrue(filter.mightContain("jti-" + t + "-" + i), "jti-" + t + "-" + i);
+            }
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("valid-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.server.security.JWT;
+
+import com.example.server.security.Config.JwtConfig;
+import com.example.server.security.models.RevokedToken;
+import com.example.server.security.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * A rebuild swaps in a fresh filter; nothing revoked before or during it may be missing afterwards.
+ * The repository is backed by an in-memory list standing in for the collection.
+ */
+class TokenRevocationServiceTest {
+
+    private static final Instant NOW = Instant.now();
+
+    private final List<RevokedToken> collection = new CopyOnWriteArrayList<>();
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.save(any(RevokedToken.class))).thenAnswer(invocation -> {
+            collection.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenAnswer(invocation -> List.copyOf(collection));
+        when(revokedTokenRepository.findByCreatedAtGreaterThanEqual(any())).thenAnswer(invocation -> {
+            Instant since = invocation.getArgument(0);
+            return collection.stream().filter(entry -> !entry.getCreatedAt().isBefore(since)).toList();
+        });
+        when(revokedTokenRepository.existsByJti(anyString())).thenAnswer(invocation -> {
+            String jti = invocation.getArgument(0);
+            return collection.stream().anyMatch(entry -> jti.equals(entry.getJti()));
+        });
+
+        revocationService = new TokenRevocationService(revokedTokenRepository, mock(MongoTemplate.class),
+                mock(JwtConfig.class), 10_000, 0.01, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void rebuildKeepsEveryUnexpiredEntry() {
+        for (int i = 0; i < 1_000; i++) {
+            collection.add(new RevokedToken(null, "jti-" + i, "user" + i + "@evalia.dev", null, NOW, NOW.plusSeconds(3600)));
+        }
+
+        revocationService.rebuild();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(revocationService.isRevoked(principal("user" + i + "@evalia.dev", "jti-" + i)), "jti-" + i);
+        }
+        assertFalse(revocationService.isRevoked(principal("other@evalia.dev", "jti-other")));
+    }
+
+    @Test
+    void revocationDuringRebuildSurvivesSwap() {
+        // Both revocations land in the old view after the entries were read
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenAnswer(invocation -> {
+            List<RevokedToken> snapshot = List.copyOf(collection);
+            revocationService.revoke(principal("a@evalia.dev", "jti-1"));
+            revocationService.revokeAllForSubject("b@evalia.dev");
+            return snapshot;
+        });
+
+        revocationService.rebuild();
+
+        assertTrue(revocationService.isRevoked(principal("a@evalia.dev", "jti-1")));
+        assertTrue(revocationService.isRevoked(new JwtPrincipal("b@evalia.dev", NOW.minusSeconds(60), NOW.plusSeconds(600), Map.of())));
+    }
+
+    @Test
+    void concurrentRevocationsAreNeverLostToRebuilds() throws Exception {
+        int revokers   = 4;
+        int perRevoker = 500;
+
+        ExecutorService executor   = Executors.newFixedThreadPool(revokers + 1);
+        AtomicBoolean   revoking   = new AtomicBoolean(true);
+        try {
+            Future<?> rebuilder = executor.submit(() -> {
+                while (revoking.get()) {
+                    revocationService.rebuild();
+                }
+            });
+            List<Future<?>> writers = new CopyOnWriteArrayList<>();
+            for (int r = 0; r < revokers; r++) {
+                int revoker = r;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < perRevoker; i++) {
+                        revocationService.revoke(principal("user@evalia.dev", "jti-" + revoker + "-" + i));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            revoking.set(false);
+            rebuilder.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int r = 0; r < revokers; r++) {
+            for (int i = 0; i < perRevoker; i++) {
+                assertTrue(revocationService.isRevoked(principal("user@evalia.dev", "jti-" + r + "-" + i)), "jti-" + r + "-" + i);
+            }
+        }
+    }
+
+    private static JwtPrincipal principal(String subject, String jti) {
+        return new JwtPrincipal(subject, NOW.minusSeconds(60), NOW.plusSeconds(600), Map.of(Claims.ID, jti));
+    }
+}
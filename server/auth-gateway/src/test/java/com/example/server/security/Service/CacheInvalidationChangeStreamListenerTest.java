@@ -0,0 +1,157 @@
+package com.example.server.security.Service;
+
+import com.example.server.UserProfile.Service.OrganizationCache;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.client.model.Filters.eq;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the listener against a real single-node replica set, the smallest deployment that has
+ * change streams. Skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationChangeStreamListenerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @Container
+    private static final MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+    private static MongoClient   mongoClient;
+    private static MongoTemplate mongoTemplate;
+
+    private final List<CacheInvalidationChangeStreamListener> listeners = new ArrayList<>();
+
+    private String   instanceId;
+    private ObjectId userId;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient   = MongoClients.create(mongo.getReplicaSetUrl());
+        mongoTemplate = new MongoTemplate(mongoClient, "evalia");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        instanceId = "node-" + new ObjectId().toHexString();
+        userId     = new ObjectId();
+        users().insertOne(new Document("_id", userId).append("email", userId + "@evalia.dev"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        listeners.forEach(CacheInvalidationChangeStreamListener::stop);
+    }
+
+    @Test
+    void evictsUserChangedOnAnotherNode() throws InterruptedException {
+        UserCache userCache = mock(UserCache.class);
+        start(userCache);
+        awaitToken(null);
+
+        users().updateOne(eq("_id", userId), Updates.set("roles", List.of("RECRUITER")));
+
+        verify(userCache, timeout(TIMEOUT.toMillis())).evictById(userId);
+    }
+
+    @Test
+    void resumesFromPersistedTokenAfterRestart() throws InterruptedException {
+        CacheInvalidationChangeStreamListener first = start(mock(UserCache.class));
+        awaitToken(null);
+        first.stop();
+
+        // Written while no listener was running
+        users().updateOne(eq("_id", userId), Updates.set("emailVerified", true));
+
+        UserCache userCache = mock(UserCache.class);
+        start(userCache);
+
+        verify(userCache, timeout(TIMEOUT.toMillis())).evictById(userId);
+        verify(userCache, never()).invalidateAll();
+    }
+
+    @Test
+    void clearsCacheWhenTokenIsNoLongerInOplog() throws InterruptedException {
+        CacheInvalidationChangeStreamListener first = start(mock(UserCache.class));
+        String token = awaitToken(null);
+        first.stop();
+
+        // Same token format, but pointing at a time long before this oplog began
+        String stale = token.substring(0, 2) + "50000000" + token.substring(10);
+        tokens().replaceOne(eq("_id", tokenId()),
+                new Document("_id", tokenId()).append("token", new Document("_data", stale)));
+
+        UserCache userCache = mock(UserCache.class);
+        start(userCache);
+
+        verify(userCache, timeout(TIMEOUT.toMillis())).invalidateAll();
+        assertNotEquals(stale, awaitToken(stale), "a fresh stream replaces the stale token");
+
+        users().updateOne(eq("_id", userId), Updates.set("hasResume", true));
+        verify(userCache, timeout(TIMEOUT.toMillis())).evictById(userId);
+    }
+
+    private CacheInvalidationChangeStreamListener start(UserCache userCache) {
+        CacheInvalidationChangeStreamListener listener = new CacheInvalidationChangeStreamListener(
+                mongoTemplate, userCache, mock(OrganizationCache.class), instanceId, Duration.ZERO, Duration.ofMillis(100));
+        listener.start();
+        listeners.add(listener);
+        return listener;
+    }
+
+    /**
+     * Waits until the users stream has persisted a token other than {@code previous}, which
+     * also means the stream is open and will see subsequent writes.
+     */
+    private String awaitToken(String previous) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            Document stored = tokens().find(eq("_id", tokenId())).first();
+            if (stored != null && stored.get("token") instanceof Document token) {
+                String data = token.getString("_data");
+                if (data != null && !data.equals(previous)) {
+                    return data;
+                }
+            }
+            Thread.sleep(50);
+        }
+        return fail("No resume token was persisted for " + tokenId());
+    }
+
+    private String tokenId() {
+        return instanceId + ":" + CacheInvalidationChangeStreamListener.USERS_COLLECTION;
+    }
+
+    private static MongoCollection<Document> users() {
+        return mongoTemplate.getCollection(CacheInvalidationChangeStreamListener.USERS_COLLECTION);
+    }
+
+    private static MongoCollection<Document> tokens() {
+        return mongoTemplate.getCollection(CacheInvalidationChangeStreamListener.RESUME_TOKEN_COLLECTION);
+    }
+}
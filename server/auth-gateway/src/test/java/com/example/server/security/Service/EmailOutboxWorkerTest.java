@@ -0,0 +1,137 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.OutboundEmail;
+import com.mongodb.client.result.UpdateResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Processed emails stay in the outbox for a week; the OTP in their variables must not. An
+ * outcome is only written while the worker still holds the claim.
+ */
+class EmailOutboxWorkerTest {
+
+    private MongoTemplate       mongoTemplate;
+    private JavaMailSender      javaMailSender;
+    private EmailService        emailService;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxWorker   worker;
+    private OutboundEmail       email;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mongoTemplate  = mock(MongoTemplate.class);
+        javaMailSender = mock(JavaMailSender.class);
+        emailService   = mock(EmailService.class);
+        meterRegistry  = new SimpleMeterRegistry();
+        worker         = new EmailOutboxWorker(mongoTemplate, javaMailSender, emailService, meterRegistry,
+                1, 20, 1, Duration.ofSeconds(1), Duration.ofMinutes(2),
+                Duration.ofSeconds(5), Duration.ofMinutes(30), Duration.ofDays(7));
+
+        email = new OutboundEmail();
+        email.setId(new ObjectId());
+        email.setTo("candidate@evalia.dev");
+        email.setVariables(Map.of("otp", "123456"));
+        email.setAttempts(1);
+        email.setStatus(OutboundEmail.Status.SENDING);
+        email.setLockedBy("node-a/email-outbox-1");
+        email.setCreatedAt(Instant.now());
+
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(OutboundEmail.class)))
+                .thenReturn(email, (OutboundEmail) null);
+        when(emailService.render(email)).thenReturn(new MimeMessage((Session) null));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(OutboundEmail.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    }
+
+    @Test
+    void sentEmailDropsItsVariables() {
+        assertEquals(1, worker.drainOnce());
+
+        Document update = lastUpdate();
+        assertEquals(OutboundEmail.Status.SENT, update.get("$set", Document.class).get("status"));
+        assertTrue(update.get("$unset", Document.class).containsKey("variables"));
+    }
+
+    @Test
+    void failedEmailDropsItsVariables() {
+        doThrow(new MailSendException("SMTP down")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        assertEquals(1, worker.drainOnce());
+
+        Document update = lastUpdate();
+        assertEquals(OutboundEmail.Status.FAILED, update.get("$set", Document.class).get("status"));
+        assertTrue(update.get("$unset", Document.class).containsKey("variables"));
+    }
+
+    @Test
+    void retriedEmailKeepsItsVariables() {
+        worker = new EmailOutboxWorker(mongoTemplate, javaMailSender, emailService, new SimpleMeterRegistry(),
+                1, 20, 3, Duration.ofSeconds(1), Duration.ofMinutes(2),
+                Duration.ofSeconds(5), Duration.ofMinutes(30), Duration.ofDays(7));
+        doThrow(new MailSendException("SMTP down")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        worker.drainOnce();
+
+        Document update = lastUpdate();
+        assertEquals(OutboundEmail.Status.PENDING, update.get("$set", Document.class).get("status"));
+        assertFalse(update.get("$unset", Document.class).containsKey("variables"));
+    }
+
+    @Test
+    void outcomeOnlyMatchesOwnClaim() {
+        worker.drainOnce();
+
+        Document query = lastQuery();
+        assertEquals(email.getId(), query.get("_id"));
+        assertEquals(OutboundEmail.Status.SENDING, query.get("status"));
+        assertEquals("node-a/email-outbox-1", query.get("lockedBy"));
+        assertEquals(1, query.get("attempts"));
+    }
+
+    @Test
+    void lostClaimIsNotCountedAsFailure() {
+        // Another worker re-claimed the email while this send was still running
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(OutboundEmail.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+        doThrow(new MailSendException("SMTP down")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        worker.drainOnce();
+
+        assertEquals(0, meterRegistry.counter("email.outbox.failed").count());
+        assertEquals(0, meterRegistry.counter("email.outbox.retried").count());
+    }
+
+    private Document lastQuery() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).updateFirst(query.capture(), any(Update.class), eq(OutboundEmail.class));
+        return query.getValue().getQueryObject();
+    }
+
+    private Document lastUpdate() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(OutboundEmail.class));
+        return update.getValue().getUpdateObject();
+    }
+}
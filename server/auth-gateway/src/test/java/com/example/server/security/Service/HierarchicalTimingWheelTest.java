@@ -0,0 +1,128 @@
+package com.example.server.security.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * With a 10 ms tick and 4 buckets per level, levels span 40 ms, 160 ms and 640 ms, so the
+ * delays below land on every level and have to cascade down before they run. The wheel runs on
+ * the wall clock; the upper bounds leave room for a loaded build machine.
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK_MS  = 10;
+    private static final long SLACK_MS = 500;
+
+    private HierarchicalTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel(Duration.ofMillis(TICK_MS), 4, "timing-wheel-test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void tasksOnEveryLevelRunAtTheirDeadline() throws InterruptedException {
+        long[]         delays = {25, 100, 400, 1_000};
+        AtomicLong[]   ranAt  = new AtomicLong[delays.length];
+        CountDownLatch done   = new CountDownLatch(delays.length);
+
+        long scheduledAt = System.currentTimeMillis();
+        for (int i = 0; i < delays.length; i++) {
+            AtomicLong time = ranAt[i] = new AtomicLong();
+            wheel.schedule(Duration.ofMillis(delays[i]), () -> {
+                time.set(System.currentTimeMillis());
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < delays.length; i++) {
+            long elapsed = ranAt[i].get() - scheduledAt;
+            // Buckets open up to a tick before the deadline; upper levels open far earlier and must cascade
+            assertTrue(elapsed >= delays[i] - TICK_MS, delays[i] + " ms task ran after " + elapsed + " ms");
+            assertTrue(elapsed <= delays[i] + SLACK_MS, delays[i] + " ms task ran after " + elapsed + " ms");
+        }
+    }
+
+    @Test
+    void dueTaskRunsAtOnce() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(2);
+
+        wheel.schedule(Duration.ZERO, done::countDown);
+        wheel.schedule(Duration.ofMillis(-5), done::countDown);
+
+        assertTrue(done.await(SLACK_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void failingTaskDoesNotStopTheTicker() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+
+        wheel.schedule(Duration.ofMillis(20), () -> {
+            throw new IllegalStateException("boom");
+        });
+        wheel.schedule(Duration.ofMillis(200), done::countDown);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentlyScheduledTasksRunExactlyOnce() throws Exception {
+        int threads   = 8;
+        int perThread = 1_000;
+
+        AtomicIntegerArray runs = new AtomicIntegerArray(threads * perThread);
+        CountDownLatch     done = new CountDownLatch(threads * perThread);
+        CountDownLatch     start = new CountDownLatch(1);
+
+        ExecutorService executor   = Executors.newFixedThreadPool(threads);
+        List<Future<?>> schedulers = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                schedulers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        int task = thread * perThread + i;
+                        wheel.schedule(Duration.ofMillis(ThreadLocalRandom.current().nextInt(0, 700)), () -> {
+                            runs.incrementAndGet(task);
+                            done.countDown();
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> scheduler : schedulers) {
+                scheduler.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), done.getCount() + " tasks never ran");
+        for (int i = 0; i < runs.length(); i++) {
+            assertEquals(1, runs.get(i), "task " + i);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.server.security.Service;
+
+import com.example.server.security.models.AuthPrincipal;
+import com.example.server.security.models.userEntity;
+import com.example.server.security.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+/**
+ * An eviction that runs while a miss is being loaded must win over the load's result, and
+ * callers must never get hold of the cached instances.
+ */
+class UserCacheTest {
+
+    private static final String EMAIL = "candidate@evalia.dev";
+
+    private UserRepository userRepository;
+    private UserCache      userCache;
+    private userEntity     user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userCache      = new UserCache(userRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+        user = new userEntity();
+        user.setId(new ObjectId());
+        user.setEmail(EMAIL);
+    }
+
+    @Test
+    void cachesLoadedUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        userCache.findByEmail(EMAIL);
+        userCache.findByEmail(EMAIL);
+        userCache.findById(user.getId());
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository, never()).findById(any(ObjectId.class));
+    }
+
+    @Test
+    void evictionDuringLoadIsNotUndone() {
+        // The save's eviction lands between the repository read and the put
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> {
+            userCache.evictByEmail(EMAIL);
+            return Optional.of(user);
+        });
+
+        userCache.findByEmail(EMAIL);
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void evictionDuringByIdLoadIsNotUndone() {
+        when(userRepository.findById(user.getId())).thenAnswer(invocation -> {
+            userCache.evictById(user.getId());
+            return Optional.of(user);
+        });
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        userCache.findById(user.getId());
+        userCache.findByEmail(EMAIL);
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void evictionDuringPrincipalLoadIsNotUndone() {
+        AuthPrincipal principal = new AuthPrincipal();
+        principal.setEmail(EMAIL);
+        when(userRepository.findPrincipalByEmail(EMAIL)).thenAnswer(invocation -> {
+            userCache.evictByEmail(EMAIL);
+            return Optional.of(principal);
+        });
+
+        userCache.findPrincipalByEmail(EMAIL);
+        userCache.findPrincipalByEmail(EMAIL);
+
+        verify(userRepository, times(2)).findPrincipalByEmail(EMAIL);
+        assertEquals(EMAIL, userCache.findPrincipalByEmail(EMAIL).orElseThrow().getEmail());
+    }
+
+    @Test
+    void returnedPrincipalIsPrivateCopy() {
+        AuthPrincipal principal = new AuthPrincipal();
+        principal.setEmail(EMAIL);
+        principal.setPassword("old-hash");
+        when(userRepository.findPrincipalByEmail(EMAIL)).thenReturn(Optional.of(principal));
+
+        // What updatePassword does after a rehash on login
+        userCache.findPrincipalByEmail(EMAIL).orElseThrow().setPassword("new-hash");
+
+        assertEquals("old-hash", userCache.findPrincipalByEmail(EMAIL).orElseThrow().getPassword());
+        verify(userRepository, times(1)).findPrincipalByEmail(EMAIL);
+    }
+}